@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.views.ViewsRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders a {@link Fixture} through {@link ViewsRenderer#render(String, Object, Object)} and
+ * writes the resulting {@link io.micronaut.core.io.Writable} as UTF-8 bytes, the way the HTTP
+ * server does.
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractRendererBenchmark {
+
+    private ApplicationContext applicationContext;
+    private ViewsRenderer<Object, Object> renderer;
+    private String view;
+    private Object model;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws IOException {
+        applicationContext = BenchmarkContext.start();
+        renderer = applicationContext.getBean(engine().getRendererType());
+        view = engine().view(fixture());
+        model = fixture().model(modelType());
+        if (render() == 0) {
+            throw new IllegalStateException("View " + view + " rendered no output");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public long render() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        renderer.render(view, model, null).writeTo(out, StandardCharsets.UTF_8);
+        return out.getCount();
+    }
+
+    /**
+     * @return The engine to benchmark.
+     */
+    protected abstract Engine engine();
+
+    /**
+     * @return The fixture to render.
+     */
+    protected abstract Fixture fixture();
+
+    /**
+     * @return The shape of the model handed to the renderer.
+     */
+    protected abstract ModelType modelType();
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Starts the {@link ApplicationContext} shared by the benchmarks, with every renderer registered.
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * @return A started application context.
+     */
+    static ApplicationContext start() {
+        return start(Map.of());
+    }
+
+    /**
+     * @param properties Properties to set on top of those the benchmarks share.
+     * @return A started application context.
+     */
+    static ApplicationContext start(Map<String, Object> properties) {
+        Map<String, Object> shared = new HashMap<>(Map.of(
+            // Thymeleaf also uses .html, give Pebble templates their own extension.
+            "micronaut.views.pebble.default-extension", "peb",
+            "micronaut.views.jte.dynamic", true,
+            "micronaut.views.jte.dynamic-path", "build/jte-classes",
+            // The benchmark bundle contains plain functions rather than React components, so the
+            // numbers reflect the host/guest bridge rather than React itself.
+            "micronaut.views.react.render-script", "classpath:/views/react-render.js"
+        ));
+        shared.putAll(properties);
+        return ApplicationContext.run(shared);
+    }
+}
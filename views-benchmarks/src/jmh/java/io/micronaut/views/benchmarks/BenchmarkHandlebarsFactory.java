@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import com.github.jknack.handlebars.Handlebars;
+import io.micronaut.context.annotation.Factory;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.views.handlebars.HandlebarsFactory;
+import jakarta.inject.Singleton;
+
+/**
+ * Handlebars rejects partials that include themselves by default, which the nested fixture needs.
+ */
+@Factory
+class BenchmarkHandlebarsFactory {
+
+    @Singleton
+    @Replaces(value = Handlebars.class, factory = HandlebarsFactory.class)
+    Handlebars handlebars() {
+        return new Handlebars().infiniteLoops(true);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import com.google.template.soy.SoyFileSet;
+import io.micronaut.views.soy.SoyFileSetProvider;
+import jakarta.inject.Singleton;
+
+import java.net.URL;
+
+/**
+ * Supplies the Soy templates used by the benchmarks.
+ */
+@Singleton
+class BenchmarkSoyFileSetProvider implements SoyFileSetProvider {
+
+    @Override
+    public SoyFileSet provideSoyFileSet() {
+        URL templates = BenchmarkSoyFileSetProvider.class.getResource("/views/soy/benchmarks.soy");
+        if (templates == null) {
+            throw new IllegalStateException("Soy benchmark templates not found");
+        }
+        return SoyFileSet.builder().add(templates).build();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import io.micronaut.views.ViewsRenderer;
+import io.micronaut.views.freemarker.FreemarkerViewsRenderer;
+import io.micronaut.views.handlebars.HandlebarsViewsRenderer;
+import io.micronaut.views.jte.HtmlJteViewsRenderer;
+import io.micronaut.views.pebble.PebbleViewsRenderer;
+import io.micronaut.views.react.ReactViewsRenderer;
+import io.micronaut.views.rocker.RockerViewsRenderer;
+import io.micronaut.views.soy.SoySauceViewsRenderer;
+import io.micronaut.views.thymeleaf.ThymeleafViewsRenderer;
+import io.micronaut.views.velocity.VelocityViewsRenderer;
+
+/**
+ * The {@link ViewsRenderer} implementations under benchmark and where their templates live.
+ */
+@SuppressWarnings("rawtypes")
+public enum Engine {
+    THYMELEAF(ThymeleafViewsRenderer.class, "thymeleaf/"),
+    FREEMARKER(FreemarkerViewsRenderer.class, "freemarker/"),
+    PEBBLE(PebbleViewsRenderer.class, "pebble/"),
+    HANDLEBARS(HandlebarsViewsRenderer.class, "handlebars/"),
+    VELOCITY(VelocityViewsRenderer.class, "velocity/"),
+    JTE(HtmlJteViewsRenderer.class, "jte/"),
+    ROCKER(RockerViewsRenderer.class, "rocker/"),
+    SOY(SoySauceViewsRenderer.class, "benchmarks."),
+    REACT(ReactViewsRenderer.class, "");
+
+    private final Class<? extends ViewsRenderer> rendererType;
+    private final String prefix;
+
+    Engine(Class<? extends ViewsRenderer> rendererType, String prefix) {
+        this.rendererType = rendererType;
+        this.prefix = prefix;
+    }
+
+    /**
+     * @return The bean type of the renderer.
+     */
+    public Class<? extends ViewsRenderer> getRendererType() {
+        return rendererType;
+    }
+
+    /**
+     * @param fixture The fixture
+     * @return The name of the view rendering the fixture with this engine.
+     */
+    public String view(Fixture fixture) {
+        return prefix + fixture.getName();
+    }
+}
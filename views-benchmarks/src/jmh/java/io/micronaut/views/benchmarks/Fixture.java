@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import io.micronaut.views.benchmarks.model.Link;
+import io.micronaut.views.benchmarks.model.Node;
+import io.micronaut.views.benchmarks.model.Row;
+import io.micronaut.views.benchmarks.model.SmallPage;
+import io.micronaut.views.benchmarks.model.Table;
+import io.micronaut.views.benchmarks.model.Tree;
+import io.micronaut.views.benchmarks.model.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The shared models every engine renders. Each engine has one template per fixture, named after
+ * {@link #getName()}, producing the same markup.
+ */
+public enum Fixture {
+    /**
+     * A small page with a handful of values, representative of most views.
+     */
+    SMALL("small") {
+        @Override
+        Object bean() {
+            List<Link> links = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                links.add(new Link("Link " + i, "/links/" + i));
+            }
+            return new SmallPage("Small page", new User("Sherlock Holmes", "sherlock@example.com"), links);
+        }
+    },
+
+    /**
+     * A table of {@value #TABLE_ROWS} rows, where loop and property access overhead dominate.
+     */
+    TABLE("table") {
+        @Override
+        Object bean() {
+            List<Row> rows = new ArrayList<>(TABLE_ROWS);
+            for (int i = 0; i < TABLE_ROWS; i++) {
+                rows.add(new Row(i, "SKU-" + i, "Product <" + i + ">", i % 97, i % 3 != 0));
+            }
+            return new Table("Large table", rows);
+        }
+    },
+
+    /**
+     * A tree {@value #TREE_DEPTH} levels deep with {@value #TREE_BRANCHING} children per node,
+     * rendered through recursive macros, partials or template calls.
+     */
+    NESTED("nested") {
+        @Override
+        Object bean() {
+            return new Tree("Deep nesting", node("root", TREE_DEPTH));
+        }
+
+        private Node node(String name, int depth) {
+            List<Node> children = new ArrayList<>(TREE_BRANCHING);
+            if (depth > 1) {
+                for (int i = 0; i < TREE_BRANCHING; i++) {
+                    children.add(node(name + "." + i, depth - 1));
+                }
+            }
+            return new Node(name, children);
+        }
+    };
+
+    static final int TABLE_ROWS = 1000;
+    static final int TREE_DEPTH = 5;
+    static final int TREE_BRANCHING = 4;
+
+    private final String name;
+
+    Fixture(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The name of the template rendering this fixture, without engine specific prefix.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @param modelType The shape of the model
+     * @return A new model for this fixture.
+     */
+    public Object model(ModelType modelType) {
+        Object bean = bean();
+        return modelType == ModelType.MAP ? ModelType.toMap(bean) : bean;
+    }
+
+    abstract Object bean();
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the engines which only work with {@link java.util.Map} models. The Soy value
+ * converter only understands maps, lists and primitives for nested values, and Velocity writes
+ * loop and macro variables back into the model, which a bean model does not support.
+ */
+public class MapRendererBenchmark extends AbstractRendererBenchmark {
+
+    @Param({"SOY", "VELOCITY"})
+    public Engine engine;
+
+    @Param
+    public Fixture fixture;
+
+    @Override
+    protected Engine engine() {
+        return engine;
+    }
+
+    @Override
+    protected Fixture fixture() {
+        return fixture;
+    }
+
+    @Override
+    protected ModelType modelType() {
+        return ModelType.MAP;
+    }
+}
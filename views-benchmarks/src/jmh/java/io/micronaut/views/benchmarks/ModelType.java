@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The shape in which a {@link Fixture} is handed to a renderer.
+ */
+public enum ModelType {
+    /**
+     * Nested {@link Map}s and {@link List}s, as returned by controllers building the model by hand.
+     */
+    MAP,
+
+    /**
+     * {@link io.micronaut.core.annotation.Introspected} beans, which renderers see through {@link io.micronaut.core.beans.BeanMap}.
+     */
+    BEAN;
+
+    /**
+     * Deeply converts introspected beans into maps holding the same values.
+     *
+     * @param value The value to convert
+     * @return The converted value
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Object toMap(Object value) {
+        if (value instanceof Collection<?> collection) {
+            List<Object> result = new ArrayList<>(collection.size());
+            for (Object item : collection) {
+                result.add(toMap(item));
+            }
+            return result;
+        }
+        if (value == null) {
+            return null;
+        }
+        Optional<BeanIntrospection<Object>> introspection = BeanIntrospector.SHARED.findIntrospection((Class<Object>) value.getClass());
+        if (introspection.isEmpty()) {
+            return value;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (BeanProperty<Object, Object> property : introspection.get().getBeanProperties()) {
+            result.put(property.getName(), toMap(property.get(value)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.views.benchmarks.model.Catalog;
+import io.micronaut.views.benchmarks.model.Product;
+import io.micronaut.views.react.ReactViewsRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders a product list page with React, where the page reads a few properties of every product
+ * and the hydration bootstrap serializes all of them, so the cost is dominated by reading large
+ * prop graphs through the Java/Javascript bridge.
+ */
+@State(Scope.Benchmark)
+public class ReactPropsBenchmark {
+
+    private static final String VIEW = "catalog";
+
+    @Param({"100", "1000", "10000"})
+    public int products;
+
+    @Param
+    public ModelType modelType;
+
+    private ApplicationContext applicationContext;
+    private ReactViewsRenderer<Object> renderer;
+    private Object model;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws IOException {
+        applicationContext = BenchmarkContext.start();
+        renderer = applicationContext.getBean(ReactViewsRenderer.class);
+        List<Product> items = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            Map<String, String> attributes = new LinkedHashMap<>();
+            attributes.put("color", i % 2 == 0 ? "red" : "blue");
+            attributes.put("size", String.valueOf(i % 5));
+            attributes.put("material", "cotton");
+            items.add(new Product(i, "SKU-" + i, "Product <" + i + ">", i * 1.5, i % 3 != 0, List.of("new", "sale", "tag-" + (i % 7)), attributes));
+        }
+        Catalog catalog = new Catalog("Catalog", items);
+        model = modelType == ModelType.MAP ? ModelType.toMap(catalog) : catalog;
+        if (render() == 0) {
+            throw new IllegalStateException("View " + VIEW + " rendered no output");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public long render() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        renderer.render(VIEW, model, null).writeTo(out, StandardCharsets.UTF_8);
+        return out.getCount();
+    }
+}
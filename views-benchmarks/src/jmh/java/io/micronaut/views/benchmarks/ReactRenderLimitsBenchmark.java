@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.views.react.ReactViewsRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Renders a small React view with and without sandbox resource limits, which are reset before
+ * every render, to measure what {@code max-cpu-time} and {@code max-heap-memory} cost per render.
+ * Runtimes without resource limit support, such as GraalJS community edition, ignore them, so
+ * both variants measure the same there.
+ */
+@State(Scope.Benchmark)
+public class ReactRenderLimitsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean limits;
+
+    private ApplicationContext applicationContext;
+    private ReactViewsRenderer<Object> renderer;
+    private String view;
+    private Object model;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws IOException {
+        applicationContext = BenchmarkContext.start(limits ? Map.of(
+            "micronaut.views.react.max-cpu-time", "10s",
+            "micronaut.views.react.max-heap-memory", "512MB"
+        ) : Map.of());
+        renderer = applicationContext.getBean(ReactViewsRenderer.class);
+        view = Engine.REACT.view(Fixture.SMALL);
+        model = Fixture.SMALL.model(ModelType.BEAN);
+        if (render() == 0) {
+            throw new IllegalStateException("View " + view + " rendered no output");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public long render() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        renderer.render(view, model, null).writeTo(out, StandardCharsets.UTF_8);
+        return out.getCount();
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Benchmarks the engines whose templates declare typed parameters. Nested values must be of the
+ * declared types, so only bean models apply.
+ */
+public class TypedTemplateRendererBenchmark extends AbstractRendererBenchmark {
+
+    @Param({"JTE", "ROCKER"})
+    public Engine engine;
+
+    @Param
+    public Fixture fixture;
+
+    @Override
+    protected Engine engine() {
+        return engine;
+    }
+
+    @Override
+    protected Fixture fixture() {
+        return fixture;
+    }
+
+    @Override
+    protected ModelType modelType() {
+        return ModelType.BEAN;
+    }
+}
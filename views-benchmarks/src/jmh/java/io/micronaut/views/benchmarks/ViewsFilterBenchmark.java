@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.core.io.Writable;
+import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.views.ModelAndView;
+import io.micronaut.views.ViewsFilter;
+import io.micronaut.web.router.Router;
+import io.micronaut.web.router.UriRouteMatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Runs a response through {@link ViewsFilter} end to end: view and media type resolution,
+ * renderer lookup, model decoration, rendering and writing the body. The network is left out so
+ * changes to the filter are not drowned out by the HTTP stack.
+ * <p>
+ * Velocity throws from {@code exists} for templates it cannot find rather than returning false, so
+ * with every engine registered the lookup would depend on the order renderers are asked in. Using
+ * Velocity views keeps the lookup deterministic. Velocity only works with map models, so bean
+ * models are covered by {@link TemplateRendererBenchmark} instead.
+ */
+@State(Scope.Benchmark)
+public class ViewsFilterBenchmark {
+
+    @Param
+    public Fixture fixture;
+
+    private ApplicationContext applicationContext;
+    private ViewsFilter viewsFilter;
+    private UriRouteMatch<Object, Object> routeMatch;
+    private String view;
+    private Object model;
+
+    @Setup
+    public void setup() throws IOException {
+        applicationContext = BenchmarkContext.start();
+        viewsFilter = applicationContext.getBean(ViewsFilter.class);
+        routeMatch = applicationContext.getBean(Router.class).<Object, Object>GET("/benchmarks/render")
+            .orElseThrow(() -> new IllegalStateException("Benchmark route not found"));
+        view = Engine.VELOCITY.view(fixture);
+        model = fixture.model(ModelType.MAP);
+        if (filter() == 0) {
+            throw new IllegalStateException("View " + view + " rendered no output");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public long filter() throws IOException {
+        HttpRequest<?> request = HttpRequest.GET("/benchmarks/render").accept(MediaType.TEXT_HTML_TYPE);
+        MutableHttpResponse<?> response = Flux.from(viewsFilter.doFilter(request, req -> {
+            MutableHttpResponse<?> controllerResponse = HttpResponse.ok(new ModelAndView<>(view, model));
+            controllerResponse.setAttribute(HttpAttributes.ROUTE_MATCH, routeMatch);
+            return Flux.just(controllerResponse);
+        })).blockFirst();
+        CountingOutputStream out = new CountingOutputStream();
+        ((Writable) response.body()).writeTo(out, StandardCharsets.UTF_8);
+        return out.getCount();
+    }
+}
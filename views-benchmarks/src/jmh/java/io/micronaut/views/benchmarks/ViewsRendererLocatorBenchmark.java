@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.http.MediaType;
+import io.micronaut.views.ViewsRenderer;
+import io.micronaut.views.ViewsRendererLocator;
+import io.micronaut.views.exceptions.ViewNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Optional;
+
+/**
+ * Benchmarks {@link ViewsRendererLocator#resolveViewsRenderer(String, String, Object)} once the
+ * renderer for a view has been located, which is the path every request takes, and the miss path
+ * for a view no renderer holds. Uses Velocity views for the reason given in {@link ViewsFilterBenchmark}.
+ */
+@State(Scope.Benchmark)
+public class ViewsRendererLocatorBenchmark {
+
+    private static final String MISSING_VIEW = "missing/view";
+
+    @Param
+    public ModelType modelType;
+
+    private ApplicationContext applicationContext;
+    private ViewsRendererLocator viewsRendererLocator;
+    private String view;
+    private Object model;
+
+    @Setup
+    public void setup() {
+        applicationContext = BenchmarkContext.start();
+        viewsRendererLocator = applicationContext.getBean(ViewsRendererLocator.class);
+        view = Engine.VELOCITY.view(Fixture.SMALL);
+        model = Fixture.SMALL.model(modelType);
+        if (resolve().isEmpty()) {
+            throw new IllegalStateException("No renderer found for view " + view);
+        }
+        if (!(resolveMissingView() instanceof ViewNotFoundException)) {
+            throw new IllegalStateException("Renderer found for view " + MISSING_VIEW);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Optional<ViewsRenderer> resolve() {
+        return viewsRendererLocator.resolveViewsRenderer(view, MediaType.TEXT_HTML, model);
+    }
+
+    @Benchmark
+    public Object resolveMissingView() {
+        try {
+            return viewsRendererLocator.resolveViewsRenderer(MISSING_VIEW, MediaType.TEXT_HTML, model);
+        } catch (ViewNotFoundException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks.model;
+
+import io.micronaut.core.annotation.Introspected;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A product of a {@link Catalog}, with nested collections as product list pages pass them.
+ */
+@Introspected
+public class Product {
+    private final int id;
+    private final String sku;
+    private final String name;
+    private final double price;
+    private final boolean available;
+    private final List<String> tags;
+    private final Map<String, String> attributes;
+
+    public Product(int id, String sku, String name, double price, boolean available, List<String> tags, Map<String, String> attributes) {
+        this.id = id;
+        this.sku = sku;
+        this.name = name;
+        this.price = price;
+        this.available = available;
+        this.tags = tags;
+        this.attributes = attributes;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+}
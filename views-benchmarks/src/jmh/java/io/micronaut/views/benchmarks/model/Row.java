@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks.model;
+
+import io.micronaut.core.annotation.Introspected;
+
+/**
+ * A single row of a {@link Table}.
+ */
+@Introspected
+public class Row {
+    private final int id;
+    private final String sku;
+    private final String name;
+    private final int quantity;
+    private final boolean active;
+
+    public Row(int id, String sku, String name, int quantity, boolean active) {
+        this.id = id;
+        this.sku = sku;
+        this.name = name;
+        this.quantity = quantity;
+        this.active = active;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.benchmarks.model;
+
+import io.micronaut.core.annotation.Introspected;
+
+/**
+ * Model of a page rendering a deeply nested structure, such as a category tree.
+ */
+@Introspected
+public class Tree {
+    private final String title;
+    private final Node root;
+
+    public Tree(String title, Node root) {
+        this.title = title;
+        this.root = root;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public Node getRoot() {
+        return root;
+    }
+}
@@ -0,0 +1,10 @@
+<#ftl output_format="HTML">
+<#macro node n><li>${n.name}<#if n.children?has_content><ul><#list n.children as child><@node child/></#list></ul></#if></li></#macro>
+<!DOCTYPE html>
+<html>
+<head><title>${title}</title></head>
+<body>
+<h1>${title}</h1>
+<ul><@node root/></ul>
+</body>
+</html>
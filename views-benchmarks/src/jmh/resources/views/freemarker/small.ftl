@@ -0,0 +1,14 @@
+<#ftl output_format="HTML">
+<!DOCTYPE html>
+<html>
+<head><title>${title}</title></head>
+<body>
+<h1>${title}</h1>
+<p>Signed in as <strong>${user.name}</strong> (${user.email})</p>
+<ul>
+<#list links as link>
+    <li><a href="${link.href}">${link.label}</a></li>
+</#list>
+</ul>
+</body>
+</html>
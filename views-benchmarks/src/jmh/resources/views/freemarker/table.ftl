@@ -0,0 +1,18 @@
+<#ftl output_format="HTML">
+<!DOCTYPE html>
+<html>
+<head><title>${title}</title></head>
+<body>
+<h1>${title}</h1>
+<table>
+    <thead><tr><th>Id</th><th>SKU</th><th>Name</th><th>Quantity</th><th>Active</th></tr></thead>
+    <tbody>
+    <#list rows as row>
+    <tr>
+        <td>${row.id?c}</td><td>${row.sku}</td><td>${row.name}</td><td>${row.quantity?c}</td><td>${row.active?string('yes', 'no')}</td>
+    </tr>
+    </#list>
+    </tbody>
+</table>
+</body>
+</html>
@@ -0,0 +1,11 @@
+// Render script used by the React SSR benchmarks. Mirrors the structure of the bundled react.js
+// render script: render the root component, then emit the hydration bootstrap.
+export function ssr(component, props, callback, clientBundleURL) {
+    callback.write(component(props));
+    const boot = {
+        rootProps: props,
+        rootComponent: component.name,
+    };
+    callback.write(`<script type="text/javascript">var Micronaut = ${JSON.stringify(boot)};</script>`);
+    callback.write(`<script type="text/javascript" src="${clientBundleURL}" async="true"></script>`);
+}
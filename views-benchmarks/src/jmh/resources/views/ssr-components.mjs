@@ -0,0 +1,67 @@
+// Server bundle used by the React SSR benchmarks. It deliberately avoids React so that the
+// benchmarks measure the cost of crossing between Java and Javascript rather than React itself.
+
+function escape(value) {
+    return String(value)
+        .replace(/&/g, "&amp;")
+        .replace(/</g, "&lt;")
+        .replace(/>/g, "&gt;")
+        .replace(/"/g, "&quot;");
+}
+
+export function small(props) {
+    let html = `<!DOCTYPE html><html><head><title>${escape(props.title)}</title></head><body>`;
+    html += `<h1>${escape(props.title)}</h1>`;
+    html += `<p>Signed in as <strong>${escape(props.user.name)}</strong> (${escape(props.user.email)})</p><ul>`;
+    const links = props.links;
+    for (let i = 0; i < links.length; i++) {
+        html += `<li><a href="${escape(links[i].href)}">${escape(links[i].label)}</a></li>`;
+    }
+    return html + "</ul></body></html>";
+}
+
+export function table(props) {
+    let html = `<!DOCTYPE html><html><head><title>${escape(props.title)}</title></head><body>`;
+    html += `<h1>${escape(props.title)}</h1><table>`;
+    html += "<thead><tr><th>Id</th><th>SKU</th><th>Name</th><th>Quantity</th><th>Active</th></tr></thead><tbody>";
+    const rows = props.rows;
+    for (let i = 0; i < rows.length; i++) {
+        const row = rows[i];
+        html += `<tr><td>${row.id}</td><td>${escape(row.sku)}</td><td>${escape(row.name)}</td><td>${row.quantity}</td><td>${row.active ? "yes" : "no"}</td></tr>`;
+    }
+    return html + "</tbody></table></body></html>";
+}
+
+function node(n) {
+    let html = `<li>${escape(n.name)}`;
+    const children = n.children;
+    if (children.length > 0) {
+        html += "<ul>";
+        for (let i = 0; i < children.length; i++) {
+            html += node(children[i]);
+        }
+        html += "</ul>";
+    }
+    return html + "</li>";
+}
+
+export function nested(props) {
+    let html = `<!DOCTYPE html><html><head><title>${escape(props.title)}</title></head><body>`;
+    html += `<h1>${escape(props.title)}</h1>`;
+    return html + `<ul>${node(props.root)}</ul></body></html>`;
+}
+
+export function catalog(props) {
+    let html = `<!DOCTYPE html><html><head><title>${escape(props.title)}</title></head><body>`;
+    html += `<h1>${escape(props.title)}</h1><ul>`;
+    const products = props.products;
+    for (let i = 0; i < products.length; i++) {
+        const product = products[i];
+        html += `<li><a href="/products/${product.id}">${escape(product.name)}</a> ${product.price} ${escape(product.attributes.color)}`;
+        if (product.available) {
+            html += ` <span>${escape(product.tags[0])}</span>`;
+        }
+        html += "</li>";
+    }
+    return html + "</ul></body></html>";
+}
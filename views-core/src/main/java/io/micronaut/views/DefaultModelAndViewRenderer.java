@@ -20,6 +20,9 @@ import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.io.Writable;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.views.observation.ViewsObservations;
+import io.micronaut.views.observation.ViewsPhase;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import java.util.Optional;
@@ -39,13 +42,36 @@ public class DefaultModelAndViewRenderer<T> implements ModelAndViewRenderer<T, H
 
     protected final ViewsRendererLocator viewsRendererLocator;
     private final ViewsModelDecorator viewsModelDecorator;
+    private final ViewsObservations viewsObservations;
 
+    /**
+     * @param viewsRendererLocator Views renderer locator
+     * @param viewsModelDecorator Views model decorator
+     * @param viewsObservations Notifies the views observers
+     * @since 5.6.0
+     */
+    @Inject
     public DefaultModelAndViewRenderer(
         ViewsRendererLocator viewsRendererLocator,
-        ViewsModelDecorator viewsModelDecorator
+        ViewsModelDecorator viewsModelDecorator,
+        ViewsObservations viewsObservations
     ) {
         this.viewsRendererLocator = viewsRendererLocator;
         this.viewsModelDecorator = viewsModelDecorator;
+        this.viewsObservations = viewsObservations;
+    }
+
+    /**
+     * @param viewsRendererLocator Views renderer locator
+     * @param viewsModelDecorator Views model decorator
+     * @deprecated Use {@link DefaultModelAndViewRenderer(ViewsRendererLocator, ViewsModelDecorator, ViewsObservations)} instead.
+     */
+    @Deprecated(forRemoval = true, since = "5.6.0")
+    public DefaultModelAndViewRenderer(
+        ViewsRendererLocator viewsRendererLocator,
+        ViewsModelDecorator viewsModelDecorator
+    ) {
+        this(viewsRendererLocator, viewsModelDecorator, ViewsObservations.NONE);
     }
 
     @Override
@@ -53,10 +79,40 @@ public class DefaultModelAndViewRenderer<T> implements ModelAndViewRenderer<T, H
     public Optional<Writable> render(ModelAndView<T> modelAndView, HttpRequest<?> request, String mediaType) {
         return modelAndView.getView()
             .flatMap(viewName -> {
+                long start = viewsObservations.start();
                 viewsModelDecorator.decorate(request, modelAndView);
+                viewsObservations.phase(ViewsPhase.DECORATE, viewName, null, start);
                 Object model = modelAndView.getModel().orElse(null);
-                return viewsRendererLocator.resolveViewsRenderer(viewName, mediaType, model)
-                    .map(renderer -> renderer.render(viewName, model, request));
+                return locate(viewName, mediaType, model)
+                    .map(renderer -> render(renderer, viewName, model, request));
             });
     }
+
+    @SuppressWarnings("rawtypes")
+    private Optional<ViewsRenderer> locate(String viewName, String mediaType, Object model) {
+        long start = viewsObservations.start();
+        Optional<ViewsRenderer> renderer;
+        try {
+            renderer = viewsRendererLocator.resolveViewsRenderer(viewName, mediaType, model);
+        } catch (RuntimeException e) {
+            viewsObservations.error(ViewsPhase.LOCATE, viewName, null, e);
+            throw e;
+        }
+        viewsObservations.phase(ViewsPhase.LOCATE, viewName, renderer.orElse(null), start);
+        return renderer;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Writable render(ViewsRenderer renderer, String viewName, Object model, HttpRequest<?> request) {
+        long start = viewsObservations.start();
+        Writable writable;
+        try {
+            writable = renderer.render(viewName, model, request);
+        } catch (RuntimeException e) {
+            viewsObservations.error(ViewsPhase.RENDER, viewName, renderer, e);
+            throw e;
+        }
+        viewsObservations.phase(ViewsPhase.RENDER, viewName, renderer, start);
+        return viewsObservations.observe(viewName, renderer, writable);
+    }
 }
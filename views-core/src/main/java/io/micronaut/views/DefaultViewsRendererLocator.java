@@ -36,13 +36,23 @@ import java.util.stream.Collectors;
 /**
  * Default implementation of {@link ViewsRendererLocator}.
  *
+ * <p>The sorted candidate renderers are cached per body class and content type, and the renderer
+ * located for each view is cached on top of them, so a lookup for a known view does not allocate nor
+ * query the bean context. A view no renderer holds is not cached, as templates may be added or
+ * reloaded while the application runs, so it is looked up again on the next request.</p>
+ *
  * @author Sergio del Amo
  * @since 3.0.0
  */
 @Singleton
 public class DefaultViewsRendererLocator implements ViewsRendererLocator {
 
-    private final Map<ViewsRendererKey, ViewsRenderer> viewsRendererMap = new ConcurrentHashMap<>();
+    /**
+     * Stands for a {@code null} body in the cache, as no body is an instance of {@link Void}.
+     */
+    private static final Class<?> NO_BODY = Void.class;
+
+    private final Map<Class<?>, Map<String, Candidates>> candidatesMap = new ConcurrentHashMap<>();
 
     private final ApplicationContext applicationContext;
 
@@ -55,21 +65,34 @@ public class DefaultViewsRendererLocator implements ViewsRendererLocator {
     public Optional<ViewsRenderer> resolveViewsRenderer(@NonNull String view,
                                                         @NonNull String contentType,
                                                         @Nullable Object body) throws ViewNotFoundException {
-        Class<?> bodyClass = body != null ? body.getClass() : null;
-        ViewsRendererKey key = new ViewsRendererKey(view, contentType, bodyClass);
-        return Optional.ofNullable(viewsRendererMap.computeIfAbsent(key, (viewsRendererKey -> {
-            List<ViewsRenderer> viewsRenderers = resolveViewsRenderer(bodyClass, contentType);
-            if (viewsRenderers.isEmpty()) {
-                return null;
-            }
-            Optional<ViewsRenderer> result = viewsRenderers.stream()
-                    .filter(viewsRenderer -> viewsRenderer.exists(view))
-                    .findFirst();
-            if (result.isPresent()) {
-                return result.get();
+        Class<?> bodyClass = body != null ? body.getClass() : NO_BODY;
+        Candidates candidates = candidates(bodyClass, contentType);
+        if (candidates.renderers.isEmpty()) {
+            return Optional.empty();
+        }
+        ViewsRenderer viewsRenderer = candidates.views.get(view);
+        if (viewsRenderer == null) {
+            viewsRenderer = candidates.locate(view);
+            if (viewsRenderer == null) {
+                throw new ViewNotFoundException("View [" + view + "] does not exist");
             }
-            throw new ViewNotFoundException("View [" + view + "] does not exist");
-        })));
+            candidates.views.putIfAbsent(view, viewsRenderer);
+        }
+        return Optional.of(viewsRenderer);
+    }
+
+    @NonNull
+    private Candidates candidates(@NonNull Class<?> bodyClass, @NonNull String contentType) {
+        Map<String, Candidates> byContentType = candidatesMap.get(bodyClass);
+        if (byContentType == null) {
+            byContentType = candidatesMap.computeIfAbsent(bodyClass, k -> new ConcurrentHashMap<>());
+        }
+        Candidates candidates = byContentType.get(contentType);
+        if (candidates == null) {
+            candidates = byContentType.computeIfAbsent(contentType, k -> new Candidates(
+                resolveViewsRenderer(bodyClass == NO_BODY ? null : bodyClass, contentType)));
+        }
+        return candidates;
     }
 
     /**
@@ -103,4 +126,28 @@ public class DefaultViewsRendererLocator implements ViewsRendererLocator {
                 })
                 .collect(Collectors.toList());
     }
+
+    /**
+     * The sorted renderers for a body class and content type, and the renderer located for each view found.
+     */
+    private static final class Candidates {
+
+        private final List<ViewsRenderer> renderers;
+
+        private final Map<String, ViewsRenderer> views = new ConcurrentHashMap<>();
+
+        private Candidates(List<ViewsRenderer> renderers) {
+            this.renderers = renderers;
+        }
+
+        @Nullable
+        private ViewsRenderer locate(@NonNull String view) {
+            for (ViewsRenderer viewsRenderer : renderers) {
+                if (viewsRenderer.exists(view)) {
+                    return viewsRenderer;
+                }
+            }
+            return null;
+        }
+    }
 }
@@ -22,6 +22,7 @@ import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.HttpAttributes;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.Optional;
 
@@ -34,6 +35,26 @@ import java.util.Optional;
 @Singleton
 @Requires(classes = HttpRequest.class)
 public class DefaultViewsResolver implements ViewsResolver {
+
+    private final RouteViewMetadataResolver routeViewMetadataResolver;
+
+    /**
+     * @param routeViewMetadataResolver Route view metadata resolver
+     * @since 5.6.0
+     */
+    @Inject
+    public DefaultViewsResolver(RouteViewMetadataResolver routeViewMetadataResolver) {
+        this.routeViewMetadataResolver = routeViewMetadataResolver;
+    }
+
+    /**
+     * @deprecated Use {@link DefaultViewsResolver(RouteViewMetadataResolver)} instead.
+     */
+    @Deprecated(forRemoval = true, since = "5.6.0")
+    public DefaultViewsResolver() {
+        this(new RouteViewMetadataResolver());
+    }
+
     @Override
     @NonNull
     public Optional<String> resolveView(HttpRequest<?> request, HttpResponse<?> response) {
@@ -55,9 +76,9 @@ public class DefaultViewsResolver implements ViewsResolver {
      */
     @SuppressWarnings({"WeakerAccess", "unchecked", "rawtypes"})
     protected Optional<String> resolveView(AnnotationMetadata route, @Nullable Object responseBody) {
-        Optional<?> optionalViewName = route.getValue(View.class);
-        if (optionalViewName.isPresent()) {
-            return Optional.of((String) optionalViewName.get());
+        String view = routeViewMetadataResolver.resolve(route).view();
+        if (view != null) {
+            return Optional.of(view);
         } else if (responseBody instanceof ModelAndView) {
             return ((ModelAndView) responseBody).getView();
         }
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanMap;
+import io.micronaut.core.beans.BeanProperty;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link BeanMap} view of an introspected model. The properties of a model class are looked up once and cached,
+ * a property is read through the accessor generated for {@link io.micronaut.core.annotation.Introspected} without
+ * reflection nor intermediate allocations. Unlike {@link BeanMap#of(Object)}, write-only properties are left out, so
+ * iterating the model never fails.
+ *
+ * @param <T> The model type
+ * @since 5.6.0
+ */
+@Internal
+final class IntrospectedModel<T> extends AbstractMap<String, Object> implements BeanMap<T> {
+
+    private static final Map<Class<?>, Accessors<?>> ACCESSORS = new ConcurrentHashMap<>();
+
+    private final Accessors<T> accessors;
+    private final T bean;
+    private Set<Entry<String, Object>> entrySet;
+
+    private IntrospectedModel(Accessors<T> accessors, T bean) {
+        this.accessors = accessors;
+        this.bean = bean;
+    }
+
+    /**
+     * @param bean The model
+     * @param <T> The model type
+     * @return A map of the model properties
+     * @throws io.micronaut.core.beans.exceptions.IntrospectionException if the model type is not introspected
+     */
+    @SuppressWarnings("unchecked")
+    @NonNull
+    static <T> IntrospectedModel<T> of(@NonNull T bean) {
+        Class<T> type = (Class<T>) bean.getClass();
+        Accessors<T> accessors = (Accessors<T>) ACCESSORS.get(type);
+        if (accessors == null) {
+            accessors = (Accessors<T>) ACCESSORS.computeIfAbsent(type, t -> new Accessors<>(BeanIntrospector.SHARED.getIntrospection(type)));
+        }
+        return new IntrospectedModel<>(accessors, bean);
+    }
+
+    @Override
+    @NonNull
+    public Class<T> getBeanType() {
+        return accessors.introspection.getBeanType();
+    }
+
+    @Override
+    public int size() {
+        return accessors.names.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return accessors.names.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return readable(key) != null;
+    }
+
+    @Override
+    public Object get(Object key) {
+        BeanProperty<T, Object> property = readable(key);
+        return property != null ? property.get(bean) : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (key != null) {
+            int index = accessors.introspection.propertyIndexOf(key);
+            if (index != -1) {
+                // throws for a read-only property, as BeanMap.of does
+                accessors.properties[index].set(bean, value);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        throw new UnsupportedOperationException("Removal is not supported");
+    }
+
+    @Override
+    @NonNull
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private BeanProperty<T, Object> readable(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        int index = accessors.introspection.propertyIndexOf(name);
+        if (index == -1 || !accessors.readable[index]) {
+            return null;
+        }
+        return accessors.properties[index];
+    }
+
+    /**
+     * The properties of a model class, indexed as {@link BeanIntrospection#propertyIndexOf(String)} does.
+     *
+     * @param <T> The model type
+     */
+    private static final class Accessors<T> {
+
+        private final BeanIntrospection<T> introspection;
+        private final BeanProperty<T, Object>[] properties;
+        private final boolean[] readable;
+        private final String[] names;
+
+        @SuppressWarnings("unchecked")
+        private Accessors(BeanIntrospection<T> introspection) {
+            this.introspection = introspection;
+            this.properties = introspection.getBeanProperties().toArray(new BeanProperty[0]);
+            this.readable = new boolean[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                readable[i] = !properties[i].isWriteOnly();
+            }
+            this.names = introspection.getBeanProperties().stream()
+                .filter(property -> !property.isWriteOnly())
+                .map(BeanProperty::getName)
+                .toArray(String[]::new);
+        }
+    }
+
+    /**
+     * The readable properties of the model, read on access.
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return accessors.names.length;
+        }
+
+        @Override
+        @NonNull
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<>() {
+
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < accessors.names.length;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    String name = accessors.names[index++];
+                    return new SimpleImmutableEntry<>(name, get(name));
+                }
+            };
+        }
+    }
+}
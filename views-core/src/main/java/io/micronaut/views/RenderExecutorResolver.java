@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views;
+
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.value.PropertyResolver;
+import io.micronaut.scheduling.executor.ExecutorSelector;
+import jakarta.inject.Singleton;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the executor a {@link ViewsRenderer} renders on. An engine overrides
+ * {@link ViewsConfiguration#getRenderExecutor()} with {@code micronaut.views.<engine>.render-executor},
+ * where the engine is the package of the renderer, e.g. {@code micronaut.views.thymeleaf.render-executor}.
+ *
+ * @since 5.6.0
+ */
+@Internal
+@Singleton
+public final class RenderExecutorResolver {
+
+    private static final String RENDER_EXECUTOR = "render-executor";
+
+    private final ViewsConfiguration viewsConfiguration;
+    private final PropertyResolver propertyResolver;
+    private final ExecutorSelector executorSelector;
+    private final Map<Class<?>, Optional<Scheduler>> schedulers = new ConcurrentHashMap<>();
+
+    /**
+     * @param viewsConfiguration Views Configuration
+     * @param propertyResolver Property Resolver
+     * @param executorSelector Executor Selector
+     */
+    RenderExecutorResolver(ViewsConfiguration viewsConfiguration,
+                           PropertyResolver propertyResolver,
+                           ExecutorSelector executorSelector) {
+        this.viewsConfiguration = viewsConfiguration;
+        this.propertyResolver = propertyResolver;
+        this.executorSelector = executorSelector;
+    }
+
+    /**
+     * @param viewsRenderer The views renderer
+     * @return The scheduler to render on or an empty optional to render on the calling thread
+     */
+    @NonNull
+    public Optional<Scheduler> resolve(@NonNull ViewsRenderer<?, ?> viewsRenderer) {
+        return schedulers.computeIfAbsent(viewsRenderer.getClass(), this::scheduler);
+    }
+
+    @NonNull
+    private Optional<Scheduler> scheduler(@NonNull Class<?> viewsRendererClass) {
+        String name = executorName(viewsRendererClass);
+        if (StringUtils.isEmpty(name) || ViewsConfigurationProperties.NO_RENDER_EXECUTOR.equals(name)) {
+            return Optional.empty();
+        }
+        return Optional.of(executorSelector.select(name)
+            .map(executorService -> Schedulers.fromExecutorService(executorService, name))
+            .orElseThrow(() -> new ConfigurationException("No executor named [" + name + "] found to render views on")));
+    }
+
+    @Nullable
+    private String executorName(@NonNull Class<?> viewsRendererClass) {
+        String engine = ViewUtils.engine(viewsRendererClass);
+        if (engine != null) {
+            Optional<String> name = propertyResolver.get(ViewsConfigurationProperties.PREFIX + "." + engine + "." + RENDER_EXECUTOR, String.class);
+            if (name.isPresent()) {
+                return name.get();
+            }
+        }
+        return viewsConfiguration.getRenderExecutor();
+    }
+}
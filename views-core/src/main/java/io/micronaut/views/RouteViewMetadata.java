@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views;
+
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.MediaType;
+import io.micronaut.views.cache.CacheView;
+
+import java.util.List;
+
+/**
+ * The view related metadata of a route, read once from its annotations.
+ *
+ * @param view The value of {@link View} or {@code null} if the route is not annotated with it
+ * @param produces The media types of {@link io.micronaut.http.annotation.Produces}, in declaration order
+ * @param cacheView The {@link CacheView} annotation of the route or {@code null} if the route is not annotated with it
+ * @since 5.6.0
+ */
+@Internal
+public record RouteViewMetadata(@Nullable String view,
+                                @NonNull List<MediaType> produces,
+                                @Nullable AnnotationValue<CacheView> cacheView) {
+}
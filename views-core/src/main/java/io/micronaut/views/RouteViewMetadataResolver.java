@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.views.cache.CacheView;
+import jakarta.inject.Singleton;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the {@link RouteViewMetadata} of a route. The metadata is read once per route method and cached, so
+ * rendering a response does not query the route annotations again.
+ *
+ * @since 5.6.0
+ */
+@Internal
+@Singleton
+public final class RouteViewMetadataResolver {
+
+    private static final Argument<List<MediaType>> LIST_OF_MEDIA_TYPES = Argument.listOf(MediaType.class);
+
+    private final Map<AnnotationMetadata, RouteViewMetadata> routes = new ConcurrentHashMap<>();
+
+    /**
+     * @param response HTTP Response
+     * @return The metadata of the route which produced the response or an empty optional if there is no matched route
+     */
+    @NonNull
+    public Optional<RouteViewMetadata> resolve(@NonNull HttpResponse<?> response) {
+        return response.getAttribute(HttpAttributes.ROUTE_MATCH, AnnotationMetadata.class).map(this::resolve);
+    }
+
+    /**
+     * @param route The route annotation metadata
+     * @return The metadata of the route
+     */
+    @NonNull
+    public RouteViewMetadata resolve(@NonNull AnnotationMetadata route) {
+        // A route match is created per request, the metadata of its method is not.
+        AnnotationMetadata target = route.getTargetAnnotationMetadata();
+        RouteViewMetadata metadata = routes.get(target);
+        if (metadata == null) {
+            metadata = routes.computeIfAbsent(target, RouteViewMetadataResolver::metadata);
+        }
+        return metadata;
+    }
+
+    @NonNull
+    private static RouteViewMetadata metadata(@NonNull AnnotationMetadata route) {
+        return new RouteViewMetadata(
+            route.stringValue(View.class).orElse(null),
+            List.copyOf(route.getValue(Produces.class, LIST_OF_MEDIA_TYPES).orElseGet(Collections::emptyList)),
+            route.getAnnotation(CacheView.class)
+        );
+    }
+}
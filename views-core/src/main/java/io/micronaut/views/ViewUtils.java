@@ -17,7 +17,6 @@ package io.micronaut.views;
 
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
-import io.micronaut.core.beans.BeanMap;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -34,8 +33,11 @@ public class ViewUtils {
      */
     public static final String EXTENSION_SEPARATOR = ".";
 
+    private static final String ENGINE_PACKAGE_PREFIX = "io.micronaut.views.";
+
     /**
-     * Creates a view model for the given data.
+     * Creates a view model for the given data. A bean is exposed as a {@link io.micronaut.core.beans.BeanMap} of its
+     * introspected properties.
      * @param data The data
      * @return The model
      */
@@ -47,7 +49,7 @@ public class ViewUtils {
         if (data instanceof Map) {
             return (Map<String, Object>) data;
         }
-        return BeanMap.of(data);
+        return IntrospectedModel.of(data);
     }
 
     /**
@@ -98,4 +100,23 @@ public class ViewUtils {
         }
         return path;
     }
+
+    /**
+     * Returns the engine of a {@link ViewsRenderer}, which is the package of the renderer below
+     * {@code io.micronaut.views}, e.g. {@code thymeleaf} for the Thymeleaf renderer.
+     *
+     * @param viewsRendererClass The views renderer class
+     * @return The engine or {@code null} if the renderer is not one of Micronaut Views
+     * @since 5.6.0
+     */
+    @Nullable
+    public static String engine(@NonNull Class<?> viewsRendererClass) {
+        String packageName = viewsRendererClass.getPackageName();
+        if (!packageName.startsWith(ENGINE_PACKAGE_PREFIX)) {
+            return null;
+        }
+        String engine = packageName.substring(ENGINE_PACKAGE_PREFIX.length());
+        int dot = engine.indexOf('.');
+        return dot == -1 ? engine : engine.substring(0, dot);
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.micronaut.views;
 
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.util.Toggleable;
 
 /**
@@ -29,4 +30,13 @@ public interface ViewsConfiguration extends Toggleable {
      * @return The resources' folder where views should be searched for.
      */
     String getFolder();
+
+    /**
+     * @return The name of the executor views are rendered on or {@code null} to render them on the thread which emitted the response.
+     * @since 5.6.0
+     */
+    @Nullable
+    default String getRenderExecutor() {
+        return null;
+    }
 }
@@ -44,10 +44,23 @@ public class ViewsConfigurationProperties implements ViewsConfiguration {
     @SuppressWarnings("WeakerAccess")
     public static final boolean DEFAULT_ENABLED = true;
 
+    /**
+     * The render executor value which renders views on the thread which emitted the response.
+     */
+    public static final String NO_RENDER_EXECUTOR = "none";
+
+    /**
+     * The default executor views are rendered on, which is none, so views are rendered on the thread which emitted the response.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final String DEFAULT_RENDER_EXECUTOR = NO_RENDER_EXECUTOR;
+
     private boolean enabled = DEFAULT_ENABLED;
 
     private String folder = DEFAULT_FOLDER;
 
+    private String renderExecutor = DEFAULT_RENDER_EXECUTOR;
+
     /**
      * Whether view rendering is enabled. Default value ({@value #DEFAULT_ENABLED}).
      *
@@ -68,6 +81,16 @@ public class ViewsConfigurationProperties implements ViewsConfiguration {
         return ViewUtils.normalizeFolder(folder);
     }
 
+    /**
+     * The name of the executor views are rendered on. Default value ({@value #DEFAULT_RENDER_EXECUTOR}).
+     *
+     * @return The executor name
+     */
+    @Override
+    public String getRenderExecutor() {
+        return renderExecutor;
+    }
+
     /**
      * Whether view rendering is enabled. Default value ({@value #DEFAULT_ENABLED}).
      *
@@ -99,4 +122,15 @@ public class ViewsConfigurationProperties implements ViewsConfiguration {
         }
     }
 
+    /**
+     * The name of the executor views are rendered on, {@value #NO_RENDER_EXECUTOR} renders them on the thread which emitted the response. Default value ({@value #DEFAULT_RENDER_EXECUTOR}).
+     *
+     * @param renderExecutor The executor name
+     */
+    public void setRenderExecutor(String renderExecutor) {
+        if (StringUtils.isNotEmpty(renderExecutor)) {
+            this.renderExecutor = renderExecutor;
+        }
+    }
+
 }
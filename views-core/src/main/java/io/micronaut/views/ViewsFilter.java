@@ -16,23 +16,34 @@
 package io.micronaut.views;
 
 import io.micronaut.context.annotation.Requires;
-import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.Writable;
-import io.micronaut.core.type.Argument;
-import io.micronaut.http.HttpAttributes;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Filter;
-import io.micronaut.http.annotation.Produces;
 import io.micronaut.http.filter.HttpServerFilter;
 import io.micronaut.http.filter.ServerFilterChain;
 import io.micronaut.http.filter.ServerFilterPhase;
+import io.micronaut.views.cache.CachedView;
+import io.micronaut.views.cache.ViewCache;
+import io.micronaut.views.cache.ViewCacheResolver;
+import io.micronaut.views.conditional.ConditionalViewsConfiguration;
+import io.micronaut.views.conditional.ViewETags;
 import io.micronaut.views.exceptions.ViewNotFoundException;
 import io.micronaut.views.exceptions.ViewRenderingException;
+import io.micronaut.views.observation.ViewsObservations;
+import io.micronaut.views.observation.ViewsPhase;
+import io.micronaut.views.streaming.StreamingConfiguration;
+import io.micronaut.views.streaming.NonBlockingWritable;
+import io.micronaut.views.streaming.StreamingWritable;
+import io.micronaut.views.streaming.ViewStreamer;
 import io.micronaut.views.turbo.TurboFrame;
 import io.micronaut.views.turbo.TurboFrameRenderer;
 import io.micronaut.views.turbo.TurboStreamRenderer;
@@ -42,8 +53,13 @@ import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.util.Collections;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -86,14 +102,75 @@ public class ViewsFilter implements HttpServerFilter {
      */
     protected final TurboFrameRenderer turboFrameRenderer;
 
+    @Nullable
+    private final RenderExecutorResolver renderExecutorResolver;
+
+    @Nullable
+    private final StreamingConfiguration streamingConfiguration;
+
+    @Nullable
+    private final ViewCacheResolver viewCacheResolver;
+
+    @Nullable
+    private final ViewCache viewCache;
+
+    private final RouteViewMetadataResolver routeViewMetadataResolver;
+
+    private final ViewsObservations viewsObservations;
+
+    @Nullable
+    private final ConditionalViewsConfiguration conditionalViewsConfiguration;
+
     /**
      * Constructor.
      * @param viewsResolver Views Resolver
      * @param viewsRendererLocator ViewRendererLocator
      * @param viewsModelDecorator Views Model Decorator
      * @param turboFrameRenderer Turbo Frame renderer
+     * @param renderExecutorResolver Resolves the executor views are rendered on
+     * @param streamingConfiguration Streaming configuration
+     * @param viewCacheResolver Resolves whether a rendered view is cached
+     * @param viewCache View cache
+     * @param routeViewMetadataResolver Route view metadata resolver
+     * @param viewsObservations Notifies the views observers
+     * @param conditionalViewsConfiguration Conditional views configuration
+     * @since 5.6.0
      */
     @Inject
+    public ViewsFilter(ViewsResolver viewsResolver,
+                       ViewsRendererLocator viewsRendererLocator,
+                       ViewsModelDecorator viewsModelDecorator,
+                       TurboFrameRenderer turboFrameRenderer,
+                       RenderExecutorResolver renderExecutorResolver,
+                       StreamingConfiguration streamingConfiguration,
+                       @Nullable ViewCacheResolver viewCacheResolver,
+                       @Nullable ViewCache viewCache,
+                       RouteViewMetadataResolver routeViewMetadataResolver,
+                       ViewsObservations viewsObservations,
+                       ConditionalViewsConfiguration conditionalViewsConfiguration) {
+        this.viewsResolver = viewsResolver;
+        this.viewsRendererLocator = viewsRendererLocator;
+        this.viewsModelDecorator = viewsModelDecorator;
+        this.turboStreamRenderer = null;
+        this.turboFrameRenderer = turboFrameRenderer;
+        this.renderExecutorResolver = renderExecutorResolver;
+        this.streamingConfiguration = streamingConfiguration;
+        this.viewCacheResolver = viewCacheResolver;
+        this.viewCache = viewCache;
+        this.routeViewMetadataResolver = routeViewMetadataResolver;
+        this.viewsObservations = viewsObservations;
+        this.conditionalViewsConfiguration = conditionalViewsConfiguration;
+    }
+
+    /**
+     * Constructor. Views are rendered on the thread which emitted the response.
+     * @param viewsResolver Views Resolver
+     * @param viewsRendererLocator ViewRendererLocator
+     * @param viewsModelDecorator Views Model Decorator
+     * @param turboFrameRenderer Turbo Frame renderer
+     * @deprecated Use {@link ViewsFilter(ViewsResolver, ViewsRendererLocator, ViewsModelDecorator, TurboFrameRenderer, RenderExecutorResolver, StreamingConfiguration, ViewCacheResolver, ViewCache, RouteViewMetadataResolver, ViewsObservations, ConditionalViewsConfiguration)} instead.
+     */
+    @Deprecated(forRemoval = true, since = "5.6.0")
     public ViewsFilter(ViewsResolver viewsResolver,
                        ViewsRendererLocator viewsRendererLocator,
                        ViewsModelDecorator viewsModelDecorator,
@@ -103,6 +180,13 @@ public class ViewsFilter implements HttpServerFilter {
         this.viewsModelDecorator = viewsModelDecorator;
         this.turboStreamRenderer = null;
         this.turboFrameRenderer = turboFrameRenderer;
+        this.renderExecutorResolver = null;
+        this.streamingConfiguration = null;
+        this.viewCacheResolver = null;
+        this.viewCache = null;
+        this.routeViewMetadataResolver = new RouteViewMetadataResolver();
+        this.viewsObservations = ViewsObservations.NONE;
+        this.conditionalViewsConfiguration = null;
     }
 
     /**
@@ -125,6 +209,13 @@ public class ViewsFilter implements HttpServerFilter {
         this.viewsModelDecorator = viewsModelDecorator;
         this.turboStreamRenderer = turboStreamRenderer;
         this.turboFrameRenderer = turboFrameRenderer;
+        this.renderExecutorResolver = null;
+        this.streamingConfiguration = null;
+        this.viewCacheResolver = null;
+        this.viewCache = null;
+        this.routeViewMetadataResolver = new RouteViewMetadataResolver();
+        this.viewsObservations = ViewsObservations.NONE;
+        this.conditionalViewsConfiguration = null;
     }
 
     @Override
@@ -160,23 +251,186 @@ public class ViewsFilter implements HttpServerFilter {
                 }
 
                 try {
-                    Optional<ViewsRenderer> optionalViewsRenderer = viewsRendererLocator.resolveViewsRenderer(view,  type.getName(), body);
+                    if (isConditional() && isSuccessful(response) && ViewETags.isConditional(request) && ViewETags.matches(request, response.getHeaders().get(HttpHeaders.ETAG))) {
+                        return Flux.just(notModified(response));
+                    }
+                    ViewCacheResolver.CacheableView cacheableView = resolveCacheableView(request, response, view, body, type);
+                    if (cacheableView != null) {
+                        Optional<CachedView> cachedView = viewCache.get(cacheableView.key());
+                        if (cachedView.isPresent()) {
+                            response.contentType(type);
+                            return Flux.just(respond(request, response, cachedView.get()));
+                        }
+                    }
+                    Optional<ViewsRenderer> optionalViewsRenderer = locate(view, type, body);
                     if (!optionalViewsRenderer.isPresent()) {
                         LOG.debug("no view renderer found for media type: {}, ignoring", type);
                         return Flux.just(response);
                     }
-                    ModelAndView<?> modelAndView = new ModelAndView<>(view, body instanceof ModelAndView ? ((ModelAndView<?>) body).getModel().orElse(null) : body);
-                    viewsModelDecorator.decorate(request, modelAndView);
-                    Writable writable = optionalViewsRenderer.get().render(view, modelAndView.getModel().orElse(null), request);
-                    response.contentType(type);
-                    response.body(writable);
-                    return Flux.just(response);
+                    ViewsRenderer<Object, HttpRequest<?>> viewsRenderer = optionalViewsRenderer.get();
+                    if (isConditional() && !conditionalViewsConfiguration.isRenderHead() && request.getMethod() == HttpMethod.HEAD) {
+                        response.contentType(type);
+                        response.body(null);
+                        return Flux.just(response);
+                    }
+                    Optional<Scheduler> scheduler = renderExecutorResolver == null ? Optional.empty() : renderExecutorResolver.resolve(viewsRenderer);
+                    if (scheduler.isEmpty()) {
+                        return Flux.just(render(request, response, viewsRenderer, view, body, type, null, cacheableView));
+                    }
+                    PropagatedContext propagatedContext = PropagatedContext.getOrEmpty();
+                    return Mono.fromCallable(() -> {
+                        try (PropagatedContext.Scope ignore = propagatedContext.propagate()) {
+                            return render(request, response, viewsRenderer, view, body, type, scheduler.get(), cacheableView);
+                        }
+                    }).subscribeOn(scheduler.get());
                 } catch (ViewNotFoundException | ViewRenderingException e) {
                     return Flux.error(e);
                 }
             });
     }
 
+    /**
+     * Decorates the model and renders the view into the response. When the view is rendered on a render executor the
+     * output is written there too, either streamed in chunks or in full, so the event loop only copies bytes. A
+     * {@link StreamingWritable} is streamed in the chunks it produces, and a {@link NonBlockingWritable} is emitted as
+     * it completes, continuing on the render executor if there is one. A view
+     * which is cached or tagged with an ETag is always written in full, since the ETag header precedes the body.
+     */
+    @NonNull
+    private MutableHttpResponse<?> render(@NonNull HttpRequest<?> request,
+                                          @NonNull MutableHttpResponse<?> response,
+                                          @NonNull ViewsRenderer<Object, HttpRequest<?>> viewsRenderer,
+                                          @NonNull String view,
+                                          @Nullable Object body,
+                                          @NonNull MediaType type,
+                                          @Nullable Scheduler scheduler,
+                                          @Nullable ViewCacheResolver.CacheableView cacheableView) {
+        long start = viewsObservations.start();
+        ModelAndView<?> modelAndView = new ModelAndView<>(view, model(body));
+        viewsModelDecorator.decorate(request, modelAndView);
+        viewsObservations.phase(ViewsPhase.DECORATE, view, viewsRenderer, start);
+        start = viewsObservations.start();
+        Writable rendered;
+        try {
+            rendered = viewsRenderer.render(view, modelAndView.getModel().orElse(null), request);
+        } catch (RuntimeException e) {
+            viewsObservations.error(ViewsPhase.RENDER, view, viewsRenderer, e);
+            throw e;
+        }
+        viewsObservations.phase(ViewsPhase.RENDER, view, viewsRenderer, start);
+        Writable writable = viewsObservations.observe(view, viewsRenderer, rendered);
+        response.contentType(type);
+        boolean streamed = scheduler != null && streamingConfiguration != null && streamingConfiguration.isEnabled();
+        if (cacheableView != null) {
+            CachedView cachedView = write(view, writable, charset(type));
+            viewCache.put(cacheableView.key(), cachedView, cacheableView.ttl());
+            return respond(request, response, cachedView);
+        } else if (!streamed && isTagged(response)) {
+            return respond(request, response, write(view, writable, charset(type)));
+        } else if (rendered instanceof NonBlockingWritable nonBlockingWritable) {
+            Publisher<byte[]> chunks = scheduler == null
+                ? nonBlockingWritable.stream(charset(type))
+                : nonBlockingWritable.stream(charset(type), scheduler::schedule);
+            response.body(viewsObservations.observe(view, viewsRenderer, chunks));
+        } else if (scheduler == null) {
+            response.body(writable);
+        } else if (streamed) {
+            Publisher<byte[]> chunks = rendered instanceof StreamingWritable streamingWritable
+                ? viewsObservations.observe(view, viewsRenderer, streamingWritable.stream(charset(type)))
+                : ViewStreamer.stream(view, writable, charset(type), streamingConfiguration);
+            response.body(Flux.from(chunks).subscribeOn(scheduler));
+        } else {
+            response.body(write(view, writable, charset(type)));
+        }
+        return response;
+    }
+
+    /**
+     * Sets a view written in full as the response body, tagging it with an ETag when enabled, the response is successful
+     * and the route did not set one. Answers {@code 304 Not Modified} if the request's {@code If-None-Match} matches the
+     * ETag.
+     */
+    @NonNull
+    private MutableHttpResponse<?> respond(@NonNull HttpRequest<?> request,
+                                           @NonNull MutableHttpResponse<?> response,
+                                           @NonNull CachedView cachedView) {
+        if (isTagged(response)) {
+            String etag = ViewETags.of(cachedView.bytes(), conditionalViewsConfiguration.isWeakETag());
+            response.header(HttpHeaders.ETAG, etag);
+            if (ViewETags.isConditional(request) && ViewETags.matches(request, etag)) {
+                return notModified(response);
+            }
+        }
+        response.body(cachedView);
+        return response;
+    }
+
+    private boolean isConditional() {
+        return conditionalViewsConfiguration != null && conditionalViewsConfiguration.isEnabled();
+    }
+
+    /**
+     * Only successful views are tagged, so an error view is never answered with {@code 304 Not Modified}.
+     */
+    private boolean isTagged(@NonNull HttpResponse<?> response) {
+        return isConditional() && isSuccessful(response) && !response.getHeaders().contains(HttpHeaders.ETAG);
+    }
+
+    private static boolean isSuccessful(@NonNull HttpResponse<?> response) {
+        int code = response.code();
+        return code >= 200 && code < 300;
+    }
+
+    @NonNull
+    private static MutableHttpResponse<?> notModified(@NonNull MutableHttpResponse<?> response) {
+        response.status(HttpStatus.NOT_MODIFIED);
+        response.body(null);
+        return response;
+    }
+
+    @SuppressWarnings("rawtypes")
+    @NonNull
+    private Optional<ViewsRenderer> locate(@NonNull String view, @NonNull MediaType type, @Nullable Object body) {
+        long start = viewsObservations.start();
+        Optional<ViewsRenderer> viewsRenderer;
+        try {
+            viewsRenderer = viewsRendererLocator.resolveViewsRenderer(view, type.getName(), body);
+        } catch (RuntimeException e) {
+            viewsObservations.error(ViewsPhase.LOCATE, view, null, e);
+            throw e;
+        }
+        viewsObservations.phase(ViewsPhase.LOCATE, view, viewsRenderer.orElse(null), start);
+        return viewsRenderer;
+    }
+
+    @Nullable
+    private ViewCacheResolver.CacheableView resolveCacheableView(@NonNull HttpRequest<?> request,
+                                                                 @NonNull MutableHttpResponse<?> response,
+                                                                 @NonNull String view,
+                                                                 @Nullable Object body,
+                                                                 @NonNull MediaType type) {
+        if (viewCacheResolver == null || viewCache == null) {
+            return null;
+        }
+        return viewCacheResolver.resolve(request, response, view, model(body), type).orElse(null);
+    }
+
+    @Nullable
+    private static Object model(@Nullable Object body) {
+        return body instanceof ModelAndView ? ((ModelAndView<?>) body).getModel().orElse(null) : body;
+    }
+
+    @NonNull
+    private static CachedView write(@NonNull String view, @NonNull Writable writable, @NonNull Charset charset) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            writable.writeTo(out, charset);
+        } catch (IOException e) {
+            throw new ViewRenderingException("Error rendering view [" + view + "]", e);
+        }
+        return new CachedView(out.toByteArray(), charset);
+    }
+
     /**
      * Resolves the response content type for the matched route.
      * @param request HTTP Request
@@ -186,16 +440,16 @@ public class ViewsFilter implements HttpServerFilter {
      */
     @NonNull
     protected MediaType resolveMediaType(@Nullable HttpRequest<?> request, @NonNull HttpResponse<?> response, @Nullable Object responseBody) {
-        Optional<AnnotationMetadata> routeMatch = response.getAttribute(HttpAttributes.ROUTE_MATCH,
-                AnnotationMetadata.class);
+        Optional<RouteViewMetadata> routeMatch = routeViewMetadataResolver.resolve(response);
         if (routeMatch.isEmpty()) {
             return MediaType.APPLICATION_JSON_TYPE;
         }
-        AnnotationMetadata route = routeMatch.get();
-        Optional<MediaType> type = request == null
-            ? route.getValue(Produces.class, MediaType.class)
-            : route.getValue(Produces.class, Argument.listOf(MediaType.class)).orElseGet(Collections::emptyList).stream().filter(mt -> accept(request, mt)).findFirst();
-        return type.orElseGet(() -> (route.getValue(View.class).isPresent() || responseBody instanceof ModelAndView) ? UTF8_HTML : MediaType.APPLICATION_JSON_TYPE);
+        RouteViewMetadata route = routeMatch.get();
+        MediaType type = produces(request, route.produces());
+        if (type != null) {
+            return type;
+        }
+        return (route.view() != null || responseBody instanceof ModelAndView) ? UTF8_HTML : MediaType.APPLICATION_JSON_TYPE;
     }
 
     /**
@@ -210,9 +464,32 @@ public class ViewsFilter implements HttpServerFilter {
         return resolveMediaType(null, response, responseBody);
     }
 
-    private static boolean accept(HttpRequest<?> request, MediaType mediaType) {
+    @NonNull
+    private static Charset charset(@NonNull MediaType type) {
+        return type.getCharset().orElse(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return The first produced media type the request accepts, or the first produced media type without a request.
+     */
+    @Nullable
+    private static MediaType produces(@Nullable HttpRequest<?> request, @NonNull List<MediaType> produces) {
+        if (produces.isEmpty()) {
+            return null;
+        }
+        if (request == null) {
+            return produces.get(0);
+        }
         List<MediaType> accept = request.getHeaders().accept();
-        return accept.isEmpty() || accept.stream().anyMatch(p -> p.equals(mediaType));
+        if (accept.isEmpty()) {
+            return produces.get(0);
+        }
+        for (MediaType mediaType : produces) {
+            if (accept.contains(mediaType)) {
+                return mediaType;
+            }
+        }
+        return null;
     }
 
     @NonNull
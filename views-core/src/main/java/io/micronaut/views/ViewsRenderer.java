@@ -44,4 +44,14 @@ public interface ViewsRenderer<T, R> extends Ordered {
      * @return true if a template can be found for the supplied view name.
      */
     boolean exists(@NonNull String viewName);
+
+    /**
+     * Prepares a view so that rendering it the first time does not pay for loading and parsing its template, e.g.
+     * by parsing and caching the template. Called by the views warm-up for views which {@link #exists(String)}.
+     *
+     * @param viewName view name to be rendered
+     * @since 5.6.0
+     */
+    default void prepare(@NonNull String viewName) {
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the rendered view of a route. The cache key is made of the view name, the media type, the request locale, the
+ * name of the authenticated user and the values named by {@link #keyBy()}.
+ *
+ * <p>A cached view is served without decorating its model, so values added by a
+ * {@link io.micronaut.views.model.ViewModelProcessor} are those of the request which rendered it. Values which depend
+ * on anything other than the key must not be cached: name the request attributes they depend on in {@link #keyBy()}.
+ * Views of requests with a CSP nonce are never cached.</p>
+ *
+ * @since 5.6.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface CacheView {
+
+    /**
+     * @return How long the rendered view is cached for, e.g. {@code 5m}. Defaults to {@code micronaut.views.cache.default-ttl}.
+     */
+    String ttl() default "";
+
+    /**
+     * Names the values the rendered view depends on. A name is a property of the model, or a request attribute when
+     * prefixed with {@value ViewCacheKey#REQUEST_ATTRIBUTE_PREFIX}.
+     *
+     * @return The names of the values which make up the cache key
+     */
+    String[] keyBy() default {};
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.Writable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * A rendered view, written out in full as held by the {@link ViewCache}.
+ *
+ * @param bytes The rendered view
+ * @param charset The charset the view was rendered with
+ * @since 5.6.0
+ */
+public record CachedView(@NonNull byte[] bytes, @NonNull Charset charset) implements Writable {
+
+    @Override
+    public void writeTo(Writer out) throws IOException {
+        out.write(new String(bytes, charset));
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream, @Nullable Charset charset) throws IOException {
+        if (charset == null || charset.equals(this.charset)) {
+            outputStream.write(bytes);
+        } else {
+            outputStream.write(new String(bytes, this.charset).getBytes(charset));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.cache;
+
+import io.micronaut.context.annotation.EachProperty;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.naming.Named;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Caches a view without annotating its routes with {@link CacheView}, e.g. for views of routes in libraries.
+ *
+ * @since 5.6.0
+ */
+@EachProperty(CachedViewConfiguration.PREFIX)
+public class CachedViewConfiguration implements Named {
+
+    /**
+     * The prefix for cached view configuration.
+     */
+    public static final String PREFIX = ViewCacheConfigurationProperties.PREFIX + ".views";
+
+    private final String name;
+    private String view;
+    private Duration ttl;
+    private List<String> keyBy = Collections.emptyList();
+
+    /**
+     * @param name The name of the configuration
+     */
+    public CachedViewConfiguration(@Parameter String name) {
+        this.name = name;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The name of the view to cache. Defaults to the name of the configuration.
+     *
+     * @return The view name
+     */
+    @NonNull
+    public String getView() {
+        return view != null ? view : name;
+    }
+
+    /**
+     * How long the rendered view is cached for. Defaults to {@code micronaut.views.cache.default-ttl}.
+     *
+     * @return The time to live
+     */
+    @Nullable
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * The names of the values which make up the cache key, see {@link CacheView#keyBy()}.
+     *
+     * @return The names of the values which make up the cache key
+     */
+    @NonNull
+    public List<String> getKeyBy() {
+        return keyBy;
+    }
+
+    /**
+     * The name of the view to cache. Defaults to the name of the configuration.
+     *
+     * @param view The view name
+     */
+    public void setView(@Nullable String view) {
+        this.view = view;
+    }
+
+    /**
+     * How long the rendered view is cached for. Defaults to {@code micronaut.views.cache.default-ttl}.
+     *
+     * @param ttl The time to live
+     */
+    public void setTtl(@Nullable Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * The names of the values which make up the cache key, see {@link CacheView#keyBy()}.
+     *
+     * @param keyBy The names of the values which make up the cache key
+     */
+    public void setKeyBy(@Nullable List<String> keyBy) {
+        this.keyBy = keyBy != null ? keyBy : Collections.emptyList();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.cache;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
+import io.micronaut.core.util.clhm.Weigher;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ViewCache} which holds rendered views in memory up to {@link ViewCacheConfigurationProperties#getMaximumWeight()}
+ * bytes, evicting the least recently used views beyond it.
+ *
+ * @since 5.6.0
+ */
+@Singleton
+@Requires(property = ViewCacheConfigurationProperties.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public class DefaultViewCache implements ViewCache {
+
+    private final ConcurrentLinkedHashMap<ViewCacheKey, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param configuration View cache configuration
+     */
+    public DefaultViewCache(ViewCacheConfigurationProperties configuration) {
+        this.entries = new ConcurrentLinkedHashMap.Builder<ViewCacheKey, Entry>()
+            .maximumWeightedCapacity(configuration.getMaximumWeight())
+            .weigher((Weigher<Entry>) entry -> Math.max(1, entry.view().bytes().length))
+            .listener((key, entry) -> evictions.increment())
+            .build();
+    }
+
+    @Override
+    @NonNull
+    public Optional<CachedView> get(@NonNull ViewCacheKey key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() - System.nanoTime() > 0) {
+            hits.increment();
+            return Optional.of(entry.view());
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(@NonNull ViewCacheKey key, @NonNull CachedView view, @NonNull Duration ttl) {
+        entries.put(key, new Entry(view, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public void invalidate(@NonNull String view) {
+        entries.keySet().removeIf(key -> key.view().equals(view));
+    }
+
+    @Override
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    @Override
+    @NonNull
+    public ViewCacheStatistics getStatistics() {
+        return new ViewCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size(), entries.weightedSize());
+    }
+
+    /**
+     * @param view The rendered view
+     * @param expiresAt When the rendered view expires, in {@link System#nanoTime()} terms
+     */
+    private record Entry(CachedView view, long expiresAt) {
+    }
+}
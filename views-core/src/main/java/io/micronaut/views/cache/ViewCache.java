@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.cache;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Holds rendered views, so routes annotated with {@link CacheView} skip rendering while their view is cached.
+ *
+ * @since 5.6.0
+ */
+public interface ViewCache {
+
+    /**
+     * @param key The cache key
+     * @return The rendered view or an empty optional if it is not cached or has expired
+     */
+    @NonNull
+    Optional<CachedView> get(@NonNull ViewCacheKey key);
+
+    /**
+     * @param key The cache key
+     * @param view The rendered view
+     * @param ttl How long the rendered view is cached for
+     */
+    void put(@NonNull ViewCacheKey key, @NonNull CachedView view, @NonNull Duration ttl);
+
+    /**
+     * Removes every cached rendering of a view.
+     *
+     * @param view The view name
+     */
+    void invalidate(@NonNull String view);
+
+    /**
+     * Removes every cached view.
+     */
+    void invalidateAll();
+
+    /**
+     * @return The cache statistics
+     */
+    @NonNull
+    ViewCacheStatistics getStatistics();
+}
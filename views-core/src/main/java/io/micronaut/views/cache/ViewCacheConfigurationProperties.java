@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.cache;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+import io.micronaut.views.ViewsConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Defines the {@link ViewCache} configuration properties.
+ *
+ * @since 5.6.0
+ */
+@ConfigurationProperties(ViewCacheConfigurationProperties.PREFIX)
+public class ViewCacheConfigurationProperties implements Toggleable {
+
+    /**
+     * The prefix for view cache configuration.
+     */
+    public static final String PREFIX = ViewsConfigurationProperties.PREFIX + ".cache";
+
+    /**
+     * The default enable value.
+     */
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /**
+     * The default maximum number of bytes of rendered views held, 10 MiB.
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 10L * 1024 * 1024;
+
+    /**
+     * The default time to live of a rendered view.
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private long maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+    private Duration defaultTtl = DEFAULT_TTL;
+
+    /**
+     * Whether rendered views of routes annotated with {@link CacheView} are cached. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @return True if rendered views are cached
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The maximum number of bytes of rendered views held. The least recently used views are evicted beyond it. Default value 10 MiB.
+     *
+     * @return The maximum weight in bytes
+     */
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    /**
+     * How long a rendered view is cached for when no time to live is given. Default value 1 minute.
+     *
+     * @return The default time to live
+     */
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    /**
+     * Whether rendered views of routes annotated with {@link CacheView} are cached. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled True if rendered views are cached
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * The maximum number of bytes of rendered views held. The least recently used views are evicted beyond it. Default value 10 MiB.
+     *
+     * @param maximumWeight The maximum weight in bytes
+     */
+    public void setMaximumWeight(long maximumWeight) {
+        if (maximumWeight > 0) {
+            this.maximumWeight = maximumWeight;
+        }
+    }
+
+    /**
+     * How long a rendered view is cached for when no time to live is given. Default value 1 minute.
+     *
+     * @param defaultTtl The default time to live
+     */
+    public void setDefaultTtl(Duration defaultTtl) {
+        if (defaultTtl != null) {
+            this.defaultTtl = defaultTtl;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.cache;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The key of a rendered view in the {@link ViewCache}.
+ *
+ * @param view The view name
+ * @param mediaType The media type the view was rendered as
+ * @param locale The request locale
+ * @param principal The name of the authenticated user of the request
+ * @param values The values named by {@link CacheView#keyBy()}
+ * @since 5.6.0
+ */
+public record ViewCacheKey(@NonNull String view,
+                           @NonNull String mediaType,
+                           @Nullable Locale locale,
+                           @Nullable String principal,
+                           @NonNull List<Object> values) {
+
+    /**
+     * The prefix of {@link CacheView#keyBy()} names which refer to request attributes.
+     */
+    public static final String REQUEST_ATTRIBUTE_PREFIX = "request.";
+}
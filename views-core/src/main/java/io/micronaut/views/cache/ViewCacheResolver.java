@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.cache;
+
+import io.micronaut.context.BeanContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.annotation.AnnotationValue;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.views.RouteViewMetadata;
+import io.micronaut.views.RouteViewMetadataResolver;
+import io.micronaut.views.ViewUtils;
+import io.micronaut.views.csp.CspFilter;
+import io.micronaut.views.model.ViewModelProcessor;
+import jakarta.inject.Singleton;
+
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves whether a rendered view is cached, from {@link CacheView} on the route or a {@link CachedViewConfiguration}
+ * for the view, and the key it is cached under. The model is decorated after the cache lookup, so a view is keyed by
+ * the authenticated user, and a request with a CSP nonce is never cached, since the nonce must differ on every response.
+ * Nor is a view whose model any {@link ViewModelProcessor} applies to, as what it adds, e.g. a CSRF token, may be
+ * specific to the request.
+ *
+ * @since 5.6.0
+ */
+@Internal
+@Singleton
+@Requires(beans = ViewCache.class)
+public final class ViewCacheResolver {
+
+    private static final String MEMBER_TTL = "ttl";
+    private static final String MEMBER_KEY_BY = "keyBy";
+
+    private final ViewCacheConfigurationProperties configuration;
+    private final ConversionService conversionService;
+    private final RouteViewMetadataResolver routeViewMetadataResolver;
+    private final Map<String, CachedViewConfiguration> cachedViews;
+    private final Map<String, Duration> ttls = new ConcurrentHashMap<>();
+    private final BeanContext beanContext;
+    private final Map<Class<?>, Boolean> processedModels = new ConcurrentHashMap<>();
+
+    /**
+     * @param configuration View cache configuration
+     * @param cachedViews Configured cached views
+     * @param conversionService Conversion service
+     * @param routeViewMetadataResolver Route view metadata resolver
+     * @param beanContext Bean context, to look up the view model processors of a model
+     */
+    ViewCacheResolver(ViewCacheConfigurationProperties configuration,
+                      List<CachedViewConfiguration> cachedViews,
+                      ConversionService conversionService,
+                      RouteViewMetadataResolver routeViewMetadataResolver,
+                      BeanContext beanContext) {
+        this.configuration = configuration;
+        this.beanContext = beanContext;
+        this.conversionService = conversionService;
+        this.routeViewMetadataResolver = routeViewMetadataResolver;
+        this.cachedViews = cachedViews.stream()
+            .collect(Collectors.toMap(CachedViewConfiguration::getView, Function.identity(), (a, b) -> a));
+    }
+
+    /**
+     * @param request HTTP Request
+     * @param response HTTP Response
+     * @param view The view name
+     * @param model The model
+     * @param mediaType The media type the view is rendered as
+     * @return The key and time to live of the rendered view or an empty optional if it is not cached
+     */
+    @NonNull
+    public Optional<CacheableView> resolve(@NonNull HttpRequest<?> request,
+                                           @NonNull HttpResponse<?> response,
+                                           @NonNull String view,
+                                           @Nullable Object model,
+                                           @NonNull MediaType mediaType) {
+        HttpMethod method = request.getMethod();
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD) || response.code() != HttpStatus.OK.getCode()
+            || request.getAttribute(CspFilter.NONCE_PROPERTY).isPresent() || isProcessed(model)) {
+            return Optional.empty();
+        }
+        AnnotationValue<CacheView> cacheView = routeViewMetadataResolver.resolve(response)
+            .map(RouteViewMetadata::cacheView)
+            .orElse(null);
+        Duration ttl;
+        String[] keyBy;
+        if (cacheView != null) {
+            ttl = cacheView.stringValue(MEMBER_TTL).filter(StringUtils::isNotEmpty).map(this::ttl).orElse(configuration.getDefaultTtl());
+            keyBy = cacheView.stringValues(MEMBER_KEY_BY);
+        } else {
+            CachedViewConfiguration cachedView = cachedViews.get(view);
+            if (cachedView == null) {
+                return Optional.empty();
+            }
+            ttl = cachedView.getTtl() != null ? cachedView.getTtl() : configuration.getDefaultTtl();
+            keyBy = cachedView.getKeyBy().toArray(String[]::new);
+        }
+        return Optional.of(new CacheableView(new ViewCacheKey(view, mediaType.toString(), request.getLocale().orElse(null), request.getUserPrincipal().map(Principal::getName).orElse(null), values(request, model, keyBy)), ttl));
+    }
+
+    /**
+     * @param model The model
+     * @return Whether view model processors decorate the model, looked up as
+     * {@link io.micronaut.views.DefaultViewsModelDecorator} does
+     */
+    private boolean isProcessed(@Nullable Object model) {
+        if (model == null) {
+            return false;
+        }
+        return processedModels.computeIfAbsent(model.getClass(), modelClass ->
+            !beanContext.getBeansOfType(ViewModelProcessor.class, Qualifiers.byTypeArguments(modelClass)).isEmpty());
+    }
+
+    @NonNull
+    private Duration ttl(@NonNull String ttl) {
+        return ttls.computeIfAbsent(ttl, value -> conversionService.convert(value, Duration.class)
+            .orElseThrow(() -> new ConfigurationException("Invalid @CacheView ttl [" + value + "]")));
+    }
+
+    @NonNull
+    private static List<Object> values(@NonNull HttpRequest<?> request, @Nullable Object model, @NonNull String[] keyBy) {
+        if (keyBy.length == 0) {
+            return Collections.emptyList();
+        }
+        Map<String, Object> properties = null;
+        Object[] values = new Object[keyBy.length];
+        for (int i = 0; i < keyBy.length; i++) {
+            String name = keyBy[i];
+            if (name.startsWith(ViewCacheKey.REQUEST_ATTRIBUTE_PREFIX)) {
+                values[i] = request.getAttribute(name.substring(ViewCacheKey.REQUEST_ATTRIBUTE_PREFIX.length())).orElse(null);
+            } else {
+                if (properties == null) {
+                    properties = ViewUtils.modelOf(model);
+                }
+                values[i] = properties.get(name);
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    /**
+     * A rendered view to cache.
+     *
+     * @param key The cache key
+     * @param ttl How long the rendered view is cached for
+     */
+    public record CacheableView(@NonNull ViewCacheKey key, @NonNull Duration ttl) {
+    }
+}
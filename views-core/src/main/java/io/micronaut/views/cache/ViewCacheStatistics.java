@@ -0,0 +1,29 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.cache;
+
+/**
+ * A snapshot of the {@link ViewCache} statistics.
+ *
+ * @param hits The number of lookups which found a rendered view
+ * @param misses The number of lookups which did not find a rendered view, including expired ones
+ * @param evictions The number of rendered views evicted to stay within the maximum weight
+ * @param size The number of rendered views in the cache
+ * @param weight The number of bytes of rendered views in the cache
+ * @since 5.6.0
+ */
+public record ViewCacheStatistics(long hits, long misses, long evictions, long size, long weight) {
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.conditional;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+import io.micronaut.views.ViewsConfigurationProperties;
+
+/**
+ * Defines the configuration to tag rendered views with an {@code ETag} and answer conditional requests with {@code 304 Not Modified}.
+ *
+ * @since 5.6.0
+ */
+@ConfigurationProperties(ConditionalViewsConfiguration.PREFIX)
+public class ConditionalViewsConfiguration implements Toggleable {
+
+    /**
+     * The prefix for conditional views configuration.
+     */
+    public static final String PREFIX = ViewsConfigurationProperties.PREFIX + ".conditional";
+
+    /**
+     * The default enable value.
+     */
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default weak ETag value.
+     */
+    public static final boolean DEFAULT_WEAK_ETAG = false;
+
+    /**
+     * The default render HEAD value.
+     */
+    public static final boolean DEFAULT_RENDER_HEAD = false;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private boolean weakETag = DEFAULT_WEAK_ETAG;
+    private boolean renderHead = DEFAULT_RENDER_HEAD;
+
+    /**
+     * Whether rendered views are tagged and conditional requests answered. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @return True if conditional requests are answered
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether the ETag computed from the rendered view is weak, e.g. because a proxy compresses responses. Default value ({@value #DEFAULT_WEAK_ETAG}).
+     *
+     * @return True if the ETag is weak
+     */
+    public boolean isWeakETag() {
+        return weakETag;
+    }
+
+    /**
+     * Whether views are rendered for HEAD requests. When false, a HEAD request only resolves the view. Default value ({@value #DEFAULT_RENDER_HEAD}).
+     *
+     * @return True if views are rendered for HEAD requests
+     */
+    public boolean isRenderHead() {
+        return renderHead;
+    }
+
+    /**
+     * Whether rendered views are tagged and conditional requests answered. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled True if conditional requests are answered
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Whether the ETag computed from the rendered view is weak, e.g. because a proxy compresses responses. Default value ({@value #DEFAULT_WEAK_ETAG}).
+     *
+     * @param weakETag True if the ETag is weak
+     */
+    public void setWeakETag(boolean weakETag) {
+        this.weakETag = weakETag;
+    }
+
+    /**
+     * Whether views are rendered for HEAD requests. When false, a HEAD request only resolves the view. Default value ({@value #DEFAULT_RENDER_HEAD}).
+     *
+     * @param renderHead True if views are rendered for HEAD requests
+     */
+    public void setRenderHead(boolean renderHead) {
+        this.renderHead = renderHead;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.conditional;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.views.exceptions.ViewRenderingException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Computes the ETag of rendered views and matches it against {@code If-None-Match}.
+ *
+ * @since 5.6.0
+ */
+@Internal
+public final class ViewETags {
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+    private static final String ALGORITHM = "MD5";
+    private static final HexFormat HEX = HexFormat.of();
+
+    private ViewETags() {
+    }
+
+    /**
+     * @param bytes The rendered view
+     * @param weak Whether the ETag is weak
+     * @return The quoted ETag of the rendered view
+     */
+    @NonNull
+    public static String of(@NonNull byte[] bytes, boolean weak) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ViewRenderingException("Error computing the ETag of the rendered view", e);
+        }
+        String tag = '"' + HEX.formatHex(digest.digest(bytes)) + '"';
+        return weak ? WEAK_PREFIX + tag : tag;
+    }
+
+    /**
+     * @param request The HTTP request
+     * @return True if the request is a GET or HEAD request with an {@code If-None-Match} header
+     */
+    public static boolean isConditional(@NonNull HttpRequest<?> request) {
+        HttpMethod method = request.getMethod();
+        return (method == HttpMethod.GET || method == HttpMethod.HEAD) && request.getHeaders().contains(HttpHeaders.IF_NONE_MATCH);
+    }
+
+    /**
+     * Matches an ETag with the weak comparison required for {@code If-None-Match}. Each header value is parsed as
+     * {@code *} or a list of entity tags, whose opaque tags may contain commas. Parsing a value stops at the first
+     * malformed entity tag.
+     *
+     * @param request The HTTP request
+     * @param etag The ETag of the current representation
+     * @return True if one of the request's {@code If-None-Match} entity tags matches
+     */
+    public static boolean matches(@NonNull HttpRequest<?> request, @Nullable String etag) {
+        if (etag == null) {
+            return false;
+        }
+        String opaque = opaque(etag);
+        List<String> values = request.getHeaders().getAll(HttpHeaders.IF_NONE_MATCH);
+        for (String value : values) {
+            if (ANY.equals(value.trim()) || matches(value, opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param value An {@code If-None-Match} value, as {@code 1#entity-tag}
+     * @param opaque The opaque tag to look for, with its quotes
+     * @return True if one of the entity tags of the value has the opaque tag
+     */
+    private static boolean matches(@NonNull String value, @NonNull String opaque) {
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == ',' || c == ' ' || c == '\t') {
+                i++;
+                continue;
+            }
+            if (value.startsWith(WEAK_PREFIX, i)) {
+                i += WEAK_PREFIX.length();
+            }
+            if (i >= length || value.charAt(i) != '"') {
+                return false;
+            }
+            int end = value.indexOf('"', i + 1);
+            if (end == -1) {
+                return false;
+            }
+            if (opaque.regionMatches(0, value, i, end + 1 - i) && opaque.length() == end + 1 - i) {
+                return true;
+            }
+            i = end + 1;
+        }
+        return false;
+    }
+
+    @NonNull
+    private static String opaque(@NonNull String etag) {
+        return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.observation;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.io.Writable;
+import io.micronaut.views.ViewsRenderer;
+import jakarta.inject.Singleton;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Notifies the {@link ViewsObserver} beans. Without observers every method is a no-op and no clock is read.
+ *
+ * @since 5.6.0
+ */
+@Internal
+@Singleton
+public final class ViewsObservations {
+
+    /**
+     * Observations without observers.
+     */
+    public static final ViewsObservations NONE = new ViewsObservations(Collections.emptyList());
+
+    private final ViewsObserver[] observers;
+
+    /**
+     * @param observers The views observers
+     */
+    public ViewsObservations(List<ViewsObserver> observers) {
+        this.observers = observers.toArray(new ViewsObserver[0]);
+    }
+
+    /**
+     * @return The start time of a phase, to pass to {@link #phase(ViewsPhase, String, ViewsRenderer, long)}
+     */
+    public long start() {
+        return observers.length == 0 ? 0 : System.nanoTime();
+    }
+
+    /**
+     * @param phase The phase which completed
+     * @param view The view name
+     * @param renderer The renderer of the view, {@code null} if none was located
+     * @param start The start time returned by {@link #start()}
+     */
+    public void phase(@NonNull ViewsPhase phase, @NonNull String view, @Nullable ViewsRenderer<?, ?> renderer, long start) {
+        if (observers.length == 0) {
+            return;
+        }
+        long duration = System.nanoTime() - start;
+        for (ViewsObserver observer : observers) {
+            observer.onPhase(phase, view, renderer, duration);
+        }
+    }
+
+    /**
+     * @param phase The phase which failed
+     * @param view The view name
+     * @param renderer The renderer of the view, {@code null} if none was located
+     * @param error The error
+     */
+    public void error(@NonNull ViewsPhase phase, @NonNull String view, @Nullable ViewsRenderer<?, ?> renderer, @NonNull Throwable error) {
+        for (ViewsObserver observer : observers) {
+            observer.onError(phase, view, renderer, error);
+        }
+    }
+
+    /**
+     * @param view The view name
+     * @param renderer The renderer of the view
+     * @param writable The rendered view
+     * @return The rendered view, notifying the observers once it is written
+     */
+    @NonNull
+    public Writable observe(@NonNull String view, @NonNull ViewsRenderer<?, ?> renderer, @NonNull Writable writable) {
+        return observers.length == 0 ? writable : new ObservedWritable(view, renderer, writable);
+    }
+
+    /**
+     * @param view The view name
+     * @param renderer The renderer of the view
+     * @param chunks The chunks of the rendered view
+     * @return The chunks, notifying the observers once they are all written
+     */
+    @NonNull
+    public Publisher<byte[]> observe(@NonNull String view, @NonNull ViewsRenderer<?, ?> renderer, @NonNull Publisher<byte[]> chunks) {
+        if (observers.length == 0) {
+            return chunks;
+        }
+        return Flux.defer(() -> {
+            long start = start();
+            long[] count = new long[1];
+            return Flux.from(chunks)
+                .doOnNext(chunk -> count[0] += chunk.length)
+                .doOnError(e -> error(ViewsPhase.WRITE, view, renderer, e))
+                .doOnComplete(() -> {
+                    phase(ViewsPhase.WRITE, view, renderer, start);
+                    for (ViewsObserver observer : observers) {
+                        observer.onWritten(view, renderer, count[0]);
+                    }
+                });
+        });
+    }
+
+    /**
+     * Records the {@link ViewsPhase#WRITE} phase of a rendered view.
+     */
+    private final class ObservedWritable implements Writable {
+
+        private final String view;
+        private final ViewsRenderer<?, ?> renderer;
+        private final Writable writable;
+
+        private ObservedWritable(String view, ViewsRenderer<?, ?> renderer, Writable writable) {
+            this.view = view;
+            this.renderer = renderer;
+            this.writable = writable;
+        }
+
+        @Override
+        public void writeTo(Writer out) throws IOException {
+            long start = start();
+            try {
+                writable.writeTo(out);
+            } catch (IOException | RuntimeException e) {
+                error(ViewsPhase.WRITE, view, renderer, e);
+                throw e;
+            }
+            phase(ViewsPhase.WRITE, view, renderer, start);
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream, @Nullable Charset charset) throws IOException {
+            long start = start();
+            CountingOutputStream out = new CountingOutputStream(outputStream);
+            try {
+                writable.writeTo(out, charset);
+            } catch (IOException | RuntimeException e) {
+                error(ViewsPhase.WRITE, view, renderer, e);
+                throw e;
+            }
+            phase(ViewsPhase.WRITE, view, renderer, start);
+            for (ViewsObserver observer : observers) {
+                observer.onWritten(view, renderer, out.count);
+            }
+        }
+    }
+
+    /**
+     * Counts the bytes written through it.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
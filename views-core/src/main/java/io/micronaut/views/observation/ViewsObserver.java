@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.observation;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.views.ViewsRenderer;
+
+/**
+ * Observes how views are rendered by {@link io.micronaut.views.ViewsFilter} and
+ * {@link io.micronaut.views.ModelAndViewRenderer}. Every bean of this type is notified. Observers are called on the
+ * rendering thread and must not block.
+ *
+ * @since 5.6.0
+ */
+public interface ViewsObserver {
+
+    /**
+     * Called once a phase of rendering a view completed.
+     *
+     * @param phase The phase
+     * @param view The view name
+     * @param renderer The renderer of the view, {@code null} if none was located
+     * @param durationNanos How long the phase took in nanoseconds
+     */
+    void onPhase(@NonNull ViewsPhase phase, @NonNull String view, @Nullable ViewsRenderer<?, ?> renderer, long durationNanos);
+
+    /**
+     * Called once a view was written to an output stream.
+     *
+     * @param view The view name
+     * @param renderer The renderer of the view
+     * @param bytes The number of bytes written
+     */
+    default void onWritten(@NonNull String view, @NonNull ViewsRenderer<?, ?> renderer, long bytes) {
+    }
+
+    /**
+     * Called when a phase of rendering a view failed.
+     *
+     * @param phase The phase
+     * @param view The view name
+     * @param renderer The renderer of the view, {@code null} if none was located
+     * @param error The error
+     */
+    default void onError(@NonNull ViewsPhase phase, @NonNull String view, @Nullable ViewsRenderer<?, ?> renderer, @NonNull Throwable error) {
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.observation;
+
+/**
+ * The phases of rendering a view.
+ *
+ * @since 5.6.0
+ */
+public enum ViewsPhase {
+
+    /**
+     * Locating the {@link io.micronaut.views.ViewsRenderer} of the view.
+     */
+    LOCATE,
+
+    /**
+     * Decorating the model with {@link io.micronaut.views.ViewsModelDecorator}.
+     */
+    DECORATE,
+
+    /**
+     * Calling {@link io.micronaut.views.ViewsRenderer#render(String, Object, Object)}. Most engines defer the work to
+     * {@link #WRITE}.
+     */
+    RENDER,
+
+    /**
+     * Writing the rendered view out.
+     */
+    WRITE
+}
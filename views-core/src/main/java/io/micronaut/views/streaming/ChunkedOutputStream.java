@@ -0,0 +1,151 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.streaming;
+
+import io.micronaut.core.annotation.NonNull;
+import reactor.core.publisher.FluxSink;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An {@link OutputStream} which emits what is written to a {@link FluxSink} in chunks. A chunk is emitted once the
+ * flush threshold is reached, after the closing head tag and on close. Writing blocks while the subscriber has no
+ * outstanding demand and fails once it cancels, which stops the render.
+ *
+ * @since 5.6.0
+ */
+final class ChunkedOutputStream extends OutputStream {
+
+    private static final byte[] HEAD_END = "</head>".getBytes(StandardCharsets.US_ASCII);
+
+    private final FluxSink<byte[]> sink;
+    private final int flushThreshold;
+    private final Object demand = new Object();
+    private byte[] buffer;
+    private int count;
+    private int headMatched;
+    private volatile boolean cancelled;
+
+    /**
+     * @param sink The sink to emit the chunks to
+     * @param configuration The streaming configuration
+     */
+    ChunkedOutputStream(@NonNull FluxSink<byte[]> sink, @NonNull StreamingConfiguration configuration) {
+        this.sink = sink;
+        this.flushThreshold = configuration.getFlushThreshold();
+        this.buffer = new byte[Math.min(flushThreshold, 1024)];
+        this.headMatched = configuration.isFlushAfterHead() ? 0 : -1;
+        sink.onRequest(n -> signal());
+        sink.onCancel(() -> {
+            cancelled = true;
+            signal();
+        });
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+        if (headMatched >= 0 && matchHead((byte) b)) {
+            emit();
+        } else if (count >= flushThreshold) {
+            emit();
+        }
+    }
+
+    @Override
+    public void write(@NonNull byte[] b, int off, int len) throws IOException {
+        if (headMatched >= 0) {
+            // the head is short, so it is looked for byte by byte until found
+            int end = off + len;
+            while (off < end && headMatched >= 0) {
+                write(b[off++]);
+            }
+            len = end - off;
+        }
+        while (len > 0) {
+            int n = Math.min(len, flushThreshold - count);
+            ensureCapacity(count + n);
+            System.arraycopy(b, off, buffer, count, n);
+            count += n;
+            off += n;
+            len -= n;
+            if (count >= flushThreshold) {
+                emit();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (count > 0) {
+            emit();
+        }
+    }
+
+    private boolean matchHead(byte b) {
+        byte expected = HEAD_END[headMatched];
+        if (b == expected || (b >= 'A' && b <= 'Z' && b + ('a' - 'A') == expected)) {
+            headMatched++;
+            if (headMatched == HEAD_END.length) {
+                headMatched = -1;
+                return true;
+            }
+        } else {
+            headMatched = b == HEAD_END[0] ? 1 : 0;
+        }
+        return false;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, Math.min(buffer.length * 2, flushThreshold)));
+        }
+    }
+
+    private void emit() throws IOException {
+        awaitDemand();
+        byte[] chunk = Arrays.copyOf(buffer, count);
+        count = 0;
+        sink.next(chunk);
+    }
+
+    private void awaitDemand() throws IOException {
+        synchronized (demand) {
+            while (!cancelled && sink.requestedFromDownstream() == 0) {
+                try {
+                    demand.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for demand");
+                }
+            }
+        }
+        if (cancelled) {
+            throw new IOException("The subscriber cancelled the rendered view");
+        }
+    }
+
+    private void signal() {
+        synchronized (demand) {
+            demand.notifyAll();
+        }
+    }
+}
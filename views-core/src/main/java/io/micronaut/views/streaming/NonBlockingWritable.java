@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.streaming;
+
+import io.micronaut.core.annotation.NonNull;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link StreamingWritable} whose publisher never blocks the thread that subscribes to it, e.g. because the engine
+ * continues rendering in callbacks when the data the view waits for becomes available. Such a view is emitted
+ * without parking a thread even when it is rendered on the event loop, unless it must be written in full first
+ * because it's cached or tagged with an ETag.
+ *
+ * @since 5.6.0
+ */
+public interface NonBlockingWritable extends StreamingWritable {
+
+    /**
+     * Renders the view when subscribed to, continuing the render on the given executor rather than on the thread
+     * which requests more chunks or completes the data the view waits for. The default implementation only moves the
+     * subscription and requests to the executor, so engines which continue in callbacks should override it.
+     *
+     * @param charset  The charset to encode the view with
+     * @param executor The executor to render on, e.g. the render executor
+     * @return A publisher of the chunks of the view
+     */
+    @NonNull
+    default Publisher<byte[]> stream(@NonNull Charset charset, @NonNull Executor executor) {
+        return Flux.from(stream(charset)).subscribeOn(Schedulers.fromExecutor(executor));
+    }
+}
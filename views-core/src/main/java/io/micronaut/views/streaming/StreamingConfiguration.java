@@ -0,0 +1,110 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.streaming;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+import io.micronaut.views.ViewsConfigurationProperties;
+
+/**
+ * Defines the configuration to stream rendered views to the client in chunks instead of buffering the whole page.
+ *
+ * @since 5.6.0
+ */
+@ConfigurationProperties(StreamingConfiguration.PREFIX)
+public class StreamingConfiguration implements Toggleable {
+
+    /**
+     * The prefix for streaming configuration.
+     */
+    public static final String PREFIX = ViewsConfigurationProperties.PREFIX + ".streaming";
+
+    /**
+     * The default enable value.
+     */
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default number of bytes buffered before a chunk is sent.
+     */
+    public static final int DEFAULT_FLUSH_THRESHOLD = 8192;
+
+    /**
+     * The default flush after head value.
+     */
+    public static final boolean DEFAULT_FLUSH_AFTER_HEAD = true;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private int flushThreshold = DEFAULT_FLUSH_THRESHOLD;
+    private boolean flushAfterHead = DEFAULT_FLUSH_AFTER_HEAD;
+
+    /**
+     * Whether rendered views are streamed in chunks. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @return True if rendered views are streamed
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The number of bytes buffered before a chunk is sent. Default value ({@value #DEFAULT_FLUSH_THRESHOLD}).
+     *
+     * @return The flush threshold in bytes
+     */
+    public int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    /**
+     * Whether a chunk is sent as soon as the closing head tag is written, so the browser can start fetching scripts and stylesheets. Default value ({@value #DEFAULT_FLUSH_AFTER_HEAD}).
+     *
+     * @return True if the head is flushed on its own
+     */
+    public boolean isFlushAfterHead() {
+        return flushAfterHead;
+    }
+
+    /**
+     * Whether rendered views are streamed in chunks. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled True if rendered views are streamed
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * The number of bytes buffered before a chunk is sent. Default value ({@value #DEFAULT_FLUSH_THRESHOLD}).
+     *
+     * @param flushThreshold The flush threshold in bytes
+     */
+    public void setFlushThreshold(int flushThreshold) {
+        if (flushThreshold > 0) {
+            this.flushThreshold = flushThreshold;
+        }
+    }
+
+    /**
+     * Whether a chunk is sent as soon as the closing head tag is written, so the browser can start fetching scripts and stylesheets. Default value ({@value #DEFAULT_FLUSH_AFTER_HEAD}).
+     *
+     * @param flushAfterHead True if the head is flushed on its own
+     */
+    public void setFlushAfterHead(boolean flushAfterHead) {
+        this.flushAfterHead = flushAfterHead;
+    }
+}
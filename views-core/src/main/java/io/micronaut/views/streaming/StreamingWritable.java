@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.streaming;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.io.Writable;
+import org.reactivestreams.Publisher;
+
+import java.nio.charset.Charset;
+
+/**
+ * A rendered view which produces its own chunks, e.g. because its engine renders asynchronously. When views are
+ * streamed, the chunks are sent as they are produced instead of the view being written out through
+ * {@link #writeTo(java.io.OutputStream, Charset)}.
+ *
+ * @since 5.6.0
+ */
+public interface StreamingWritable extends Writable {
+
+    /**
+     * Renders the view when subscribed to.
+     *
+     * @param charset The charset to encode the view with
+     * @return A publisher of the chunks of the view
+     */
+    @NonNull
+    Publisher<byte[]> stream(@NonNull Charset charset);
+}
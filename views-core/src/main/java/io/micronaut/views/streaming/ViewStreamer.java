@@ -0,0 +1,67 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.streaming;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.io.Writable;
+import io.micronaut.core.propagation.PropagatedContext;
+import io.micronaut.views.exceptions.ViewRenderingException;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+/**
+ * Streams a rendered view as chunks of bytes.
+ *
+ * @since 5.6.0
+ */
+@Internal
+public final class ViewStreamer {
+
+    private ViewStreamer() {
+    }
+
+    /**
+     * Writes the view when subscribed to. Writing blocks while the subscriber has no outstanding demand, so the
+     * returned publisher has to be subscribed to on a thread which may block.
+     *
+     * @param view The view name
+     * @param writable The rendered view
+     * @param charset The charset to write the view with
+     * @param configuration The streaming configuration
+     * @return A publisher of the chunks of the view
+     */
+    @NonNull
+    public static Flux<byte[]> stream(@NonNull String view,
+                                      @NonNull Writable writable,
+                                      @NonNull Charset charset,
+                                      @NonNull StreamingConfiguration configuration) {
+        PropagatedContext propagatedContext = PropagatedContext.getOrEmpty();
+        return Flux.create(sink -> {
+            try (PropagatedContext.Scope ignore = propagatedContext.propagate()) {
+                ChunkedOutputStream out = new ChunkedOutputStream(sink, configuration);
+                writable.writeTo(out, charset);
+                out.close();
+            } catch (IOException | RuntimeException e) {
+                sink.error(e instanceof ViewRenderingException ? e : new ViewRenderingException("Error rendering view [" + view + "]", e));
+                return;
+            }
+            sink.complete();
+        });
+    }
+}
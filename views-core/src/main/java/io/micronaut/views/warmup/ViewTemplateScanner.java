@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.warmup;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Lists the templates of the views folder on the classpath.
+ *
+ * @since 5.6.0
+ */
+@Internal
+final class ViewTemplateScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ViewTemplateScanner.class);
+    private static final String PROTOCOL_FILE = "file";
+    private static final String PROTOCOL_JAR = "jar";
+
+    private ViewTemplateScanner() {
+    }
+
+    /**
+     * @param classLoader The class loader to scan
+     * @param folder The views folder, e.g. {@code views/}
+     * @return The view names, relative to the folder and without extension
+     */
+    @NonNull
+    static List<String> scan(@NonNull ClassLoader classLoader, @NonNull String folder) {
+        Set<String> views = new TreeSet<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(folder);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                URI uri = url.toURI();
+                if (PROTOCOL_FILE.equals(url.getProtocol())) {
+                    scan(Paths.get(uri), views);
+                } else if (PROTOCOL_JAR.equals(url.getProtocol())) {
+                    scanJar(uri, folder, views);
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Error scanning views folder {}: {}", folder, e.getMessage());
+            }
+        }
+        return List.copyOf(views);
+    }
+
+    private static void scan(Path root, Set<String> views) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(Files::isRegularFile)
+                .map(path -> viewName(root.relativize(path).toString().replace('\\', '/')))
+                .forEach(views::add);
+        }
+    }
+
+    private static String viewName(String path) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        return dot > slash + 1 ? path.substring(0, dot) : path;
+    }
+
+    private static void scanJar(URI uri, String folder, Set<String> views) throws IOException {
+        try (FileSystem fileSystem = FileSystems.newFileSystem(uri, Collections.emptyMap())) {
+            scan(fileSystem.getPath(folder), views);
+        } catch (FileSystemAlreadyExistsException e) {
+            // opened by someone else, who is in charge of closing it
+            scan(FileSystems.getFileSystem(uri).getPath(folder), views);
+        }
+    }
+}
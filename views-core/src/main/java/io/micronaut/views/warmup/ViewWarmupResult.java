@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.warmup;
+
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+
+import java.time.Duration;
+
+/**
+ * The outcome of warming up a view.
+ *
+ * @param view The view name
+ * @param engine The engine which renders the view, {@code null} if none was located
+ * @param duration How long warming up the view took
+ * @param error The error raised warming up the view, {@code null} if it succeeded
+ * @since 5.6.0
+ */
+public record ViewWarmupResult(@NonNull String view,
+                               @Nullable String engine,
+                               @NonNull Duration duration,
+                               @Nullable Throwable error) {
+
+    /**
+     * @return True if the view was warmed up
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
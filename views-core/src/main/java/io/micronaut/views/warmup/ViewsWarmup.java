@@ -0,0 +1,173 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.warmup;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.views.ViewUtils;
+import io.micronaut.views.ViewsConfiguration;
+import io.micronaut.views.ViewsRenderer;
+import io.micronaut.views.ViewsRendererLocator;
+import io.micronaut.views.exceptions.ViewNotFoundException;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warms up views in the background once the application has started, so that the first request for a view does not
+ * pay for loading and parsing its template. The views folder is scanned for templates in the background too.
+ *
+ * <p>Each view is located with {@link ViewsRendererLocator}, to find the renderer which holds it, and then prepared
+ * with {@link ViewsRenderer#prepare(String)}. Failures are logged and recorded in the results, they never prevent the
+ * application from starting.</p>
+ *
+ * @since 5.6.0
+ */
+@Singleton
+@Requires(property = WarmupConfiguration.PREFIX + ".enabled", value = StringUtils.TRUE)
+public class ViewsWarmup implements ApplicationEventListener<StartupEvent> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ViewsWarmup.class);
+
+    private final ViewsRendererLocator viewsRendererLocator;
+    private final ViewsConfiguration viewsConfiguration;
+    private final WarmupConfiguration warmupConfiguration;
+    private volatile List<ViewWarmupResult> results;
+
+    /**
+     * @param viewsRendererLocator Views Renderer Locator
+     * @param viewsConfiguration Views Configuration
+     * @param warmupConfiguration Warm-up Configuration
+     */
+    public ViewsWarmup(ViewsRendererLocator viewsRendererLocator,
+                       ViewsConfiguration viewsConfiguration,
+                       WarmupConfiguration warmupConfiguration) {
+        this.viewsRendererLocator = viewsRendererLocator;
+        this.viewsConfiguration = viewsConfiguration;
+        this.warmupConfiguration = warmupConfiguration;
+    }
+
+    @Override
+    public void onApplicationEvent(StartupEvent event) {
+        // the threads are only started as tasks are submitted, the first one scans for templates
+        ExecutorService executor = Executors.newFixedThreadPool(warmupConfiguration.getParallelism(), new WarmupThreadFactory());
+        long start = System.nanoTime();
+        CompletableFuture.supplyAsync(this::views, executor)
+            .thenCompose(views -> {
+                List<CompletableFuture<ViewWarmupResult>> futures = new ArrayList<>(views.size());
+                for (String view : views) {
+                    futures.add(CompletableFuture.supplyAsync(() -> warmup(view), executor));
+                }
+                return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList());
+            })
+            .whenComplete((warmed, throwable) -> {
+                executor.shutdown();
+                if (throwable != null) {
+                    if (LOG.isWarnEnabled()) {
+                        LOG.warn("Error looking up the views to warm up: {}", throwable.getMessage());
+                    }
+                    results = Collections.emptyList();
+                    return;
+                }
+                if (!warmed.isEmpty() && LOG.isInfoEnabled()) {
+                    long failed = warmed.stream().filter(r -> !r.isSuccess()).count();
+                    LOG.info("Warmed up {} views in {} ms, {} failed", warmed.size(), Duration.ofNanos(System.nanoTime() - start).toMillis(), failed);
+                }
+                results = warmed;
+            });
+    }
+
+    /**
+     * @return True once every view has been warmed up
+     */
+    public boolean isComplete() {
+        return results != null;
+    }
+
+    /**
+     * @return The outcome of warming up each view, empty until the warm-up is complete
+     */
+    @NonNull
+    public Optional<List<ViewWarmupResult>> getResults() {
+        return Optional.ofNullable(results);
+    }
+
+    /**
+     * Warms up a single view.
+     *
+     * @param view The view name
+     * @return The outcome
+     */
+    @NonNull
+    protected ViewWarmupResult warmup(@NonNull String view) {
+        long start = System.nanoTime();
+        String engine = null;
+        try {
+            ViewsRenderer<?, ?> renderer = viewsRendererLocator.resolveViewsRenderer(view, warmupConfiguration.getMediaType(), null)
+                .orElseThrow(() -> new ViewNotFoundException("View not found for view " + view));
+            engine = ViewUtils.engine(renderer.getClass());
+            renderer.prepare(view);
+            Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Warmed up view {} rendered by {} in {} ms", view, engine, duration.toMillis());
+            }
+            return new ViewWarmupResult(view, engine, duration, null);
+        } catch (RuntimeException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Error warming up view {}: {}", view, e.getMessage());
+            }
+            return new ViewWarmupResult(view, engine, Duration.ofNanos(System.nanoTime() - start), e);
+        }
+    }
+
+    private List<String> views() {
+        List<String> views = warmupConfiguration.getViews();
+        if (!views.isEmpty()) {
+            return views;
+        }
+        return ViewTemplateScanner.scan(getClass().getClassLoader(), viewsConfiguration.getFolder());
+    }
+
+    /**
+     * Names the warm-up threads and lets the JVM exit while they run.
+     */
+    private static final class WarmupThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "views-warmup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.warmup;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.AbstractHealthIndicator;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reports the application as not ready until the views have been warmed up.
+ *
+ * @since 5.6.0
+ */
+@Singleton
+@Readiness
+@Requires(classes = HealthIndicator.class)
+@Requires(beans = ViewsWarmup.class)
+public class ViewsWarmupHealthIndicator extends AbstractHealthIndicator<Map<String, Object>> {
+
+    /**
+     * The name of the health indicator.
+     */
+    public static final String NAME = "views-warmup";
+
+    private final ViewsWarmup viewsWarmup;
+
+    /**
+     * @param viewsWarmup Views Warm-up
+     */
+    public ViewsWarmupHealthIndicator(ViewsWarmup viewsWarmup) {
+        this.viewsWarmup = viewsWarmup;
+    }
+
+    @Override
+    protected Map<String, Object> getHealthInformation() {
+        Optional<List<ViewWarmupResult>> results = viewsWarmup.getResults();
+        if (results.isEmpty()) {
+            healthStatus = HealthStatus.DOWN;
+            return Map.of("complete", false);
+        }
+        healthStatus = HealthStatus.UP;
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("complete", true);
+        details.put("warmed", results.get().stream().filter(ViewWarmupResult::isSuccess).count());
+        details.put("failed", results.get().stream().filter(r -> !r.isSuccess()).count());
+        return details;
+    }
+
+    @Override
+    protected String getName() {
+        return NAME;
+    }
+}
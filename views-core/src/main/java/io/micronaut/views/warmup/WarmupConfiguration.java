@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.warmup;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+import io.micronaut.http.MediaType;
+import io.micronaut.views.ViewsConfigurationProperties;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Defines the configuration to warm up views at startup.
+ *
+ * @since 5.6.0
+ */
+@ConfigurationProperties(WarmupConfiguration.PREFIX)
+public class WarmupConfiguration implements Toggleable {
+
+    /**
+     * The prefix for warm-up configuration.
+     */
+    public static final String PREFIX = ViewsConfigurationProperties.PREFIX + ".warmup";
+
+    /**
+     * The default enable value.
+     */
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /**
+     * The default number of views warmed up in parallel.
+     */
+    public static final int DEFAULT_PARALLELISM = 2;
+
+    /**
+     * The default media type views are located for.
+     */
+    public static final String DEFAULT_MEDIA_TYPE = MediaType.TEXT_HTML;
+
+    private boolean enabled = DEFAULT_ENABLED;
+    private List<String> views = Collections.emptyList();
+    private int parallelism = DEFAULT_PARALLELISM;
+    private String mediaType = DEFAULT_MEDIA_TYPE;
+
+    /**
+     * Whether views are warmed up at startup. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @return True if views are warmed up
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * The views to warm up. When empty, every template in the views folder is warmed up.
+     *
+     * @return The views to warm up
+     */
+    @NonNull
+    public List<String> getViews() {
+        return views;
+    }
+
+    /**
+     * The number of views warmed up in parallel. Default value ({@value #DEFAULT_PARALLELISM}).
+     *
+     * @return The number of views warmed up in parallel
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The media type views are located for. Default value ({@value #DEFAULT_MEDIA_TYPE}).
+     *
+     * @return The media type
+     */
+    @NonNull
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Whether views are warmed up at startup. Default value ({@value #DEFAULT_ENABLED}).
+     *
+     * @param enabled True if views are warmed up
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * The views to warm up. When empty, every template in the views folder is warmed up.
+     *
+     * @param views The views to warm up
+     */
+    public void setViews(@NonNull List<String> views) {
+        this.views = views;
+    }
+
+    /**
+     * The number of views warmed up in parallel. Default value ({@value #DEFAULT_PARALLELISM}).
+     *
+     * @param parallelism The number of views warmed up in parallel
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism > 0) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * The media type views are located for. Default value ({@value #DEFAULT_MEDIA_TYPE}).
+     *
+     * @param mediaType The media type
+     */
+    public void setMediaType(@NonNull String mediaType) {
+        this.mediaType = mediaType;
+    }
+}
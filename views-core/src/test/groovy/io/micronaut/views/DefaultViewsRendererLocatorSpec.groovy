@@ -0,0 +1,80 @@
+package io.micronaut.views
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.io.Writable
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.views.exceptions.ViewNotFoundException
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class DefaultViewsRendererLocatorSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(['spec.name': 'DefaultViewsRendererLocatorSpec'])
+
+    ViewsRendererLocator locator = applicationContext.getBean(ViewsRendererLocator)
+    CountingViewsRenderer renderer = applicationContext.getBean(CountingViewsRenderer)
+
+    void setup() {
+        renderer.lookups.clear()
+    }
+
+    void "the renderer of a view is located once"() {
+        when:
+        Optional<ViewsRenderer> first = locator.resolveViewsRenderer('home', MediaType.TEXT_HTML, [:])
+        Optional<ViewsRenderer> second = locator.resolveViewsRenderer('home', MediaType.TEXT_HTML, [:])
+
+        then:
+        first.get() == renderer
+        second.get() == renderer
+        renderer.lookups['home'].get() == 1
+    }
+
+    void "a missing view is looked up again, so a view added later is found"() {
+        when:
+        locator.resolveViewsRenderer('added', MediaType.TEXT_HTML, null)
+
+        then:
+        thrown(ViewNotFoundException)
+
+        when:
+        renderer.views << 'added'
+        Optional<ViewsRenderer> added = locator.resolveViewsRenderer('added', MediaType.TEXT_HTML, null)
+
+        then:
+        added.get() == renderer
+        renderer.lookups['added'].get() == 2
+
+        cleanup:
+        renderer.views.remove('added')
+    }
+
+    @Requires(property = "spec.name", value = "DefaultViewsRendererLocatorSpec")
+    @Singleton
+    static class CountingViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>> {
+
+        final Map<String, AtomicInteger> lookups = [:].asSynchronized()
+        final Set<String> views = ['home'].toSet().asSynchronized()
+
+        @Override
+        @NonNull
+        Writable render(@NonNull String viewName, @Nullable T data, @Nullable HttpRequest<?> request) {
+            return (Writer out) -> out.write(viewName)
+        }
+
+        @Override
+        boolean exists(@NonNull String viewName) {
+            lookups.computeIfAbsent(viewName, k -> new AtomicInteger()).incrementAndGet()
+            views.contains(viewName)
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.micronaut.views
+
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.core.beans.BeanIntrospection
+import io.micronaut.core.beans.BeanMap
+import io.micronaut.core.beans.BeanProperty
+import spock.lang.Specification
+
+class IntrospectedModelSpec extends Specification {
+
+    void "readable properties are read by name"() {
+        given:
+        Map<String, Object> model = IntrospectedModel.of(new Book())
+
+        expect:
+        model.get('title') == 'Dune'
+        model.get('pages') == 412
+        model.get('isbn') == '978-0441013593'
+        model.containsKey('title')
+        model.containsKey('isbn')
+    }
+
+    void "missing and write-only properties are absent"() {
+        given:
+        Map<String, Object> model = IntrospectedModel.of(new Book())
+
+        expect:
+        model.get('missing') == null
+        model.get('secret') == null
+        model.get(1) == null
+        !model.containsKey('missing')
+        !model.containsKey('secret')
+    }
+
+    void "entries follow the introspection order and leave out write-only properties"() {
+        given:
+        Map<String, Object> model = IntrospectedModel.of(new Book())
+        List<String> readable = BeanIntrospection.getIntrospection(Book).beanProperties
+                .findAll { BeanProperty property -> !property.writeOnly }
+                *.name
+
+        expect:
+        model.size() == 3
+        model.entrySet().size() == 3
+        model.entrySet()*.key == readable
+        model.keySet() as List == readable
+        readable as Set == ['title', 'pages', 'isbn'] as Set
+    }
+
+    void "put writes a writable property"() {
+        given:
+        Book book = new Book()
+        Map<String, Object> model = IntrospectedModel.of(book)
+
+        when:
+        model.put('title', 'Emma')
+        model.put('secret', 'hidden')
+        model.put('missing', 'ignored')
+
+        then:
+        book.title == 'Emma'
+        book.secret() == 'hidden'
+        model.get('title') == 'Emma'
+        !model.containsKey('missing')
+    }
+
+    void "put and remove fail as they do for BeanMap"() {
+        given:
+        Map<String, Object> model = IntrospectedModel.of(new Book())
+        Map<String, Object> beanMap = BeanMap.of(new Book())
+
+        when:
+        model.put('isbn', 'x')
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        beanMap.put('isbn', 'x')
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        model.remove('title')
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        beanMap.remove('title')
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    void "readable properties are the same as with BeanMap"() {
+        given:
+        Map<String, Object> model = IntrospectedModel.of(new Book())
+        Map<String, Object> beanMap = BeanMap.of(new Book())
+
+        expect:
+        model.keySet().every { beanMap.containsKey(it) }
+        model.keySet().every { model.get(it) == beanMap.get(it) }
+        (beanMap.keySet() - model.keySet()) == ['secret'] as Set
+    }
+
+    @Introspected
+    static class Book {
+        String title = 'Dune'
+        int pages = 412
+        private String hidden
+
+        String getIsbn() {
+            '978-0441013593'
+        }
+
+        void setSecret(String secret) {
+            hidden = secret
+        }
+
+        String secret() {
+            hidden
+        }
+    }
+}
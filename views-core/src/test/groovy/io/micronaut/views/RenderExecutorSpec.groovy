@@ -0,0 +1,125 @@
+package io.micronaut.views
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.io.Writable
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.BlockingHttpClient
+import io.micronaut.http.client.HttpClient
+import io.micronaut.runtime.server.EmbeddedServer
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+class RenderExecutorSpec extends Specification {
+
+    void "views are rendered on the thread which emitted the response by default"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, ['spec.name': 'RenderExecutorSpec'])
+        HttpClient httpClient = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+        BlockingHttpClient client = httpClient.toBlocking()
+
+        when:
+        String html = client.retrieve(HttpRequest.GET('/render-executor'), String)
+
+        then:
+        html.contains('eventLoop')
+
+        cleanup:
+        httpClient.close()
+        embeddedServer.close()
+    }
+
+    void "views are rendered and written off the event loop on the blocking executor"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'RenderExecutorSpec',
+                'micronaut.views.render-executor': 'blocking'
+        ])
+        HttpClient httpClient = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+        BlockingHttpClient client = httpClient.toBlocking()
+
+        when:
+        String html = client.retrieve(HttpRequest.GET('/render-executor'), String)
+
+        then:
+        html.startsWith('render:')
+        !html.contains('eventLoop')
+
+        cleanup:
+        httpClient.close()
+        embeddedServer.close()
+    }
+
+    void "views are rendered on the configured executor"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'RenderExecutorSpec',
+                'micronaut.executors.views.type': 'fixed',
+                'micronaut.executors.views.nThreads': 1,
+                'micronaut.views.render-executor': 'views'
+        ])
+        HttpClient httpClient = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+        BlockingHttpClient client = httpClient.toBlocking()
+
+        when:
+        String html = client.retrieve(HttpRequest.GET('/render-executor'), String)
+
+        then:
+        html == 'render:views-executor-thread-1 write:views-executor-thread-1'
+
+        cleanup:
+        httpClient.close()
+        embeddedServer.close()
+    }
+
+    void "rendering on the executor can be disabled"() {
+        given:
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name': 'RenderExecutorSpec',
+                'micronaut.views.render-executor': 'none'
+        ])
+        HttpClient httpClient = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+        BlockingHttpClient client = httpClient.toBlocking()
+
+        when:
+        String html = client.retrieve(HttpRequest.GET('/render-executor'), String)
+
+        then:
+        html.contains('eventLoop')
+
+        cleanup:
+        httpClient.close()
+        embeddedServer.close()
+    }
+
+    @Requires(property = "spec.name", value = "RenderExecutorSpec")
+    @Controller("/render-executor")
+    static class RenderExecutorController {
+        @Get
+        @View("thread")
+        Map<String, Object> index() {
+            [:]
+        }
+    }
+
+    @Requires(property = "spec.name", value = "RenderExecutorSpec")
+    @Singleton
+    static class ThreadViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>> {
+
+        @Override
+        @NonNull
+        Writable render(@NonNull String viewName, @Nullable T data, @Nullable HttpRequest<?> request) {
+            String renderThread = Thread.currentThread().name
+            return (Writer out) -> out.write("render:${renderThread} write:${Thread.currentThread().name}".toString())
+        }
+
+        @Override
+        boolean exists(@NonNull String viewName) {
+            viewName == "thread"
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.micronaut.views
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.AnnotationMetadata
+import io.micronaut.http.MediaType
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Produces
+import io.micronaut.views.cache.CacheView
+import io.micronaut.web.router.Router
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class RouteViewMetadataResolverSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext applicationContext = ApplicationContext.run(['spec.name': 'RouteViewMetadataResolverSpec'])
+
+    RouteViewMetadataResolver resolver = applicationContext.getBean(RouteViewMetadataResolver)
+    Router router = applicationContext.getBean(Router)
+
+    void "the view metadata of a route is read once"() {
+        when:
+        RouteViewMetadata first = resolver.resolve((AnnotationMetadata) router.GET('/route-metadata/view').get())
+        RouteViewMetadata second = resolver.resolve((AnnotationMetadata) router.GET('/route-metadata/view').get())
+
+        then:
+        first.is(second)
+        first.view() == 'home'
+        first.produces() == [MediaType.TEXT_HTML_TYPE, MediaType.TEXT_PLAIN_TYPE]
+        first.cacheView().stringValue('ttl').get() == '1m'
+    }
+
+    void "a route without view annotations has empty metadata"() {
+        when:
+        RouteViewMetadata metadata = resolver.resolve((AnnotationMetadata) router.GET('/route-metadata/plain').get())
+
+        then:
+        metadata.view() == null
+        metadata.produces().isEmpty()
+        metadata.cacheView() == null
+    }
+
+    @Requires(property = 'spec.name', value = 'RouteViewMetadataResolverSpec')
+    @Controller('/route-metadata')
+    static class RouteMetadataController {
+
+        @View('home')
+        @CacheView(ttl = '1m')
+        @Produces([MediaType.TEXT_HTML, MediaType.TEXT_PLAIN])
+        @Get('/view')
+        Map<String, Object> view() {
+            [:]
+        }
+
+        @Get('/plain')
+        Map<String, Object> plain() {
+            [:]
+        }
+    }
+}
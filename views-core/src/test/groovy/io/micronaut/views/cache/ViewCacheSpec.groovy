@@ -0,0 +1,221 @@
+package io.micronaut.views.cache
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.io.Writable
+import io.micronaut.http.HttpAttributes
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MutableHttpResponse
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Filter
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.QueryValue
+import io.micronaut.http.client.BlockingHttpClient
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.filter.HttpServerFilter
+import io.micronaut.http.filter.ServerFilterChain
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.views.ModelAndView
+import io.micronaut.views.View
+import io.micronaut.views.ViewsRenderer
+import io.micronaut.views.csp.CspFilter
+import io.micronaut.views.model.ViewModelProcessor
+import jakarta.inject.Singleton
+import org.reactivestreams.Publisher
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.security.Principal
+import java.util.concurrent.atomic.AtomicInteger
+
+class ViewCacheSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'ViewCacheSpec',
+            'micronaut.views.cache.views.configured.view': 'configured'
+    ])
+
+    @Shared
+    @AutoCleanup
+    HttpClient httpClient = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+
+    BlockingHttpClient client = httpClient.toBlocking()
+    CountingViewsRenderer renderer = embeddedServer.applicationContext.getBean(CountingViewsRenderer)
+    ViewCache viewCache = embeddedServer.applicationContext.getBean(ViewCache)
+
+    void setup() {
+        viewCache.invalidateAll()
+        renderer.renders.set(0)
+    }
+
+    void "a view annotated with CacheView is rendered once"() {
+        when:
+        String first = client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio'), String)
+        String second = client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio'), String)
+
+        then:
+        first == 'annotated Sergio'
+        second == first
+        renderer.renders.get() == 1
+        viewCache.statistics.hits() >= 1
+    }
+
+    void "the values named by keyBy are part of the cache key"() {
+        when:
+        String sergio = client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio'), String)
+        String tim = client.retrieve(HttpRequest.GET('/cache/annotated?name=Tim'), String)
+
+        then:
+        sergio == 'annotated Sergio'
+        tim == 'annotated Tim'
+        renderer.renders.get() == 2
+    }
+
+    void "each user gets views of their own"() {
+        when:
+        client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio').header('X-User', 'sdelamo'), String)
+        client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio').header('X-User', 'timyates'), String)
+        client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio').header('X-User', 'sdelamo'), String)
+
+        then:
+        renderer.renders.get() == 2
+    }
+
+    void "views of requests with a CSP nonce are not cached"() {
+        when:
+        client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio').header('X-Nonce', 'a'), String)
+        client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio').header('X-Nonce', 'b'), String)
+
+        then:
+        renderer.renders.get() == 2
+    }
+
+    void "views whose model is decorated by a view model processor are not cached"() {
+        when:
+        String first = client.retrieve(HttpRequest.GET('/cache/processed').header('X-User', 'sdelamo'), String)
+        String second = client.retrieve(HttpRequest.GET('/cache/processed').header('X-User', 'sdelamo'), String)
+
+        then:
+        first == 'processed token-1'
+        second == 'processed token-2'
+        renderer.renders.get() == 2
+    }
+
+    void "invalidating a view renders it again"() {
+        when:
+        client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio'), String)
+        viewCache.invalidate('annotated')
+        client.retrieve(HttpRequest.GET('/cache/annotated?name=Sergio'), String)
+
+        then:
+        renderer.renders.get() == 2
+    }
+
+    void "a view can be cached through configuration"() {
+        when:
+        client.retrieve(HttpRequest.GET('/cache/configured'), String)
+        client.retrieve(HttpRequest.GET('/cache/configured'), String)
+
+        then:
+        renderer.renders.get() == 1
+    }
+
+    void "views are not cached by default"() {
+        when:
+        client.retrieve(HttpRequest.GET('/cache/uncached'), String)
+        client.retrieve(HttpRequest.GET('/cache/uncached'), String)
+
+        then:
+        renderer.renders.get() == 2
+    }
+
+    @Requires(property = "spec.name", value = "ViewCacheSpec")
+    @Controller("/cache")
+    static class CacheController {
+
+        @Get("/annotated")
+        @View("annotated")
+        @CacheView(ttl = "1m", keyBy = "name")
+        Map<String, Object> annotated(@QueryValue String name) {
+            [name: name]
+        }
+
+        @Get("/configured")
+        @View("configured")
+        Map<String, Object> configured() {
+            [name: 'configured']
+        }
+
+        @Get("/processed")
+        @View("processed")
+        @CacheView(ttl = "1m")
+        Form processed() {
+            new Form()
+        }
+
+        @Get("/uncached")
+        @View("uncached")
+        Map<String, Object> uncached() {
+            [name: 'uncached']
+        }
+    }
+
+    static class Form {
+        String token
+    }
+
+    @Requires(property = "spec.name", value = "ViewCacheSpec")
+    @Singleton
+    static class TokenViewModelProcessor implements ViewModelProcessor<Form> {
+
+        final AtomicInteger tokens = new AtomicInteger()
+
+        @Override
+        void process(@NonNull HttpRequest<?> request, @NonNull ModelAndView<Form> modelAndView) {
+            modelAndView.model.ifPresent { it.token = "token-${tokens.incrementAndGet()}".toString() }
+        }
+    }
+
+    @Requires(property = "spec.name", value = "ViewCacheSpec")
+    @Filter("/cache/**")
+    static class RequestAttributesFilter implements HttpServerFilter {
+
+        @Override
+        Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+            String nonce = request.headers.get('X-Nonce')
+            if (nonce) {
+                request.setAttribute(CspFilter.NONCE_PROPERTY, nonce)
+            }
+            String user = request.headers.get('X-User')
+            if (user) {
+                request.setAttribute(HttpAttributes.PRINCIPAL, { -> user } as Principal)
+            }
+            chain.proceed(request)
+        }
+    }
+
+    @Requires(property = "spec.name", value = "ViewCacheSpec")
+    @Singleton
+    static class CountingViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>> {
+
+        final AtomicInteger renders = new AtomicInteger()
+
+        @Override
+        @NonNull
+        Writable render(@NonNull String viewName, @Nullable T data, @Nullable HttpRequest<?> request) {
+            renders.incrementAndGet()
+            String value = data instanceof Form ? ((Form) data).token : ((Map) data).name
+            return (Writer out) -> out.write("${viewName} ${value}".toString())
+        }
+
+        @Override
+        boolean exists(@NonNull String viewName) {
+            true
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package io.micronaut.views.conditional
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.io.Writable
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpResponse
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Error
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.BlockingHttpClient
+import io.micronaut.http.client.HttpClient
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.views.View
+import io.micronaut.views.ViewsRenderer
+import jakarta.inject.Singleton
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class ConditionalViewsSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+            'spec.name': 'ConditionalViewsSpec',
+            'micronaut.views.conditional.enabled': true
+    ])
+
+    @Shared
+    @AutoCleanup
+    HttpClient httpClient = embeddedServer.applicationContext.createBean(HttpClient, embeddedServer.URL)
+
+    BlockingHttpClient client = httpClient.toBlocking()
+    CountingViewsRenderer renderer = embeddedServer.applicationContext.getBean(CountingViewsRenderer)
+
+    void setup() {
+        renderer.renders.set(0)
+    }
+
+    void "a rendered view is tagged with an ETag"() {
+        when:
+        HttpResponse<String> response = client.exchange(HttpRequest.GET('/conditional/hashed'), String)
+
+        then:
+        response.status() == HttpStatus.OK
+        response.body() == 'hashed'
+        response.header(HttpHeaders.ETAG) == ViewETags.of('hashed'.bytes, false)
+    }
+
+    void "a matching If-None-Match is answered with 304"() {
+        given:
+        String etag = client.exchange(HttpRequest.GET('/conditional/hashed'), String).header(HttpHeaders.ETAG)
+
+        when:
+        HttpResponse<String> response = client.exchange(HttpRequest.GET('/conditional/hashed').header(HttpHeaders.IF_NONE_MATCH, "\"other\", W/$etag"), String)
+
+        then:
+        response.status() == HttpStatus.NOT_MODIFIED
+        response.header(HttpHeaders.ETAG) == etag
+        !response.body()
+    }
+
+    void "an ETag set by the route is matched before the view is rendered"() {
+        when:
+        HttpResponse<String> response = client.exchange(HttpRequest.GET('/conditional/versioned').header(HttpHeaders.IF_NONE_MATCH, '"v1"'), String)
+
+        then:
+        response.status() == HttpStatus.NOT_MODIFIED
+        response.header(HttpHeaders.ETAG) == '"v1"'
+        renderer.renders.get() == 0
+
+        when:
+        response = client.exchange(HttpRequest.GET('/conditional/versioned').header(HttpHeaders.IF_NONE_MATCH, '"v0"'), String)
+
+        then:
+        response.status() == HttpStatus.OK
+        response.body() == 'versioned'
+        response.header(HttpHeaders.ETAG) == '"v1"'
+        renderer.renders.get() == 1
+    }
+
+    void "an error view is never answered with 304"() {
+        when:
+        client.exchange(HttpRequest.GET('/conditional/broken').header(HttpHeaders.IF_NONE_MATCH, '*'), String)
+
+        then:
+        HttpClientResponseException e = thrown()
+        e.status == HttpStatus.INTERNAL_SERVER_ERROR
+        e.response.getBody(String).get() == 'error'
+        !e.response.header(HttpHeaders.ETAG)
+
+        when:
+        client.exchange(HttpRequest.GET('/conditional/gone').header(HttpHeaders.IF_NONE_MATCH, ViewETags.of('gone'.bytes, false)), String)
+
+        then:
+        e = thrown()
+        e.status == HttpStatus.NOT_FOUND
+        e.response.getBody(String).get() == 'gone'
+        !e.response.header(HttpHeaders.ETAG)
+    }
+
+    void "If-None-Match is parsed as a list of entity tags"() {
+        given:
+        HttpRequest<?> request = HttpRequest.GET('/').header(HttpHeaders.IF_NONE_MATCH, value)
+
+        expect:
+        ViewETags.matches(request, etag) == matches
+
+        where:
+        value                 | etag       || matches
+        '"a,b"'               | '"a,b"'    || true
+        '"x", W/"a,b"'        | '"a,b"'    || true
+        '"a", "b"'            | 'W/"b"'    || true
+        '"a,b"'               | '"a"'      || false
+        '*'                   | '"a"'      || true
+        '"x", *'              | '"a"'      || false
+        'unquoted, "a"'       | '"a"'      || false
+    }
+
+    void "a HEAD request does not render the view"() {
+        when:
+        HttpResponse<?> response = client.exchange(HttpRequest.HEAD('/conditional/hashed'))
+
+        then:
+        response.status() == HttpStatus.OK
+        renderer.renders.get() == 0
+    }
+
+    @Requires(property = "spec.name", value = "ConditionalViewsSpec")
+    @Controller("/conditional")
+    static class ConditionalController {
+
+        @Get("/hashed")
+        @View("hashed")
+        Map<String, Object> hashed() {
+            [:]
+        }
+
+        @Get("/gone")
+        @View("gone")
+        HttpResponse<Map<String, Object>> gone() {
+            HttpResponse.notFound([:])
+        }
+
+        @Get("/broken")
+        Map<String, Object> broken() {
+            throw new IllegalStateException('broken')
+        }
+
+        @Error(exception = IllegalStateException)
+        @View("error")
+        HttpResponse<Map<String, Object>> error() {
+            HttpResponse.serverError([:])
+        }
+
+        @Get("/versioned")
+        @View("versioned")
+        HttpResponse<Map<String, Object>> versioned() {
+            HttpResponse.ok([:]).header(HttpHeaders.ETAG, '"v1"')
+        }
+    }
+
+    @Requires(property = "spec.name", value = "ConditionalViewsSpec")
+    @Singleton
+    static class CountingViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>> {
+
+        final AtomicInteger renders = new AtomicInteger()
+
+        @Override
+        @NonNull
+        Writable render(@NonNull String viewName, @Nullable T data, @Nullable HttpRequest<?> request) {
+            renders.incrementAndGet()
+            return (Writer out) -> out.write(viewName)
+        }
+
+        @Override
+        boolean exists(@NonNull String viewName) {
+            true
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.micronaut.views.streaming
+
+import io.micronaut.core.io.Writable
+import io.micronaut.views.exceptions.ViewRenderingException
+import org.reactivestreams.Publisher
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class ViewStreamerSpec extends Specification {
+
+    void "the view is sent in chunks of the flush threshold"() {
+        given:
+        StreamingConfiguration configuration = new StreamingConfiguration(flushThreshold: 4, flushAfterHead: false)
+
+        when:
+        List<String> chunks = chunks(ViewStreamer.stream("home", writable("0123456789"), StandardCharsets.UTF_8, configuration))
+
+        then:
+        chunks == ["0123", "4567", "89"]
+    }
+
+    void "the head is flushed on its own"() {
+        given:
+        StreamingConfiguration configuration = new StreamingConfiguration(flushThreshold: 1024)
+
+        when:
+        List<String> chunks = chunks(ViewStreamer.stream("home", writable("<html><HEAD><title>Home</title></Head><body>Hello</body></html>"), StandardCharsets.UTF_8, configuration))
+
+        then:
+        chunks == ["<html><HEAD><title>Home</title></Head>", "<body>Hello</body></html>"]
+    }
+
+    void "rendering stops when the subscriber cancels"() {
+        given:
+        StreamingConfiguration configuration = new StreamingConfiguration(flushThreshold: 1, flushAfterHead: false)
+        int written = 0
+        Writable writable = (Writer out) -> {
+            10.times {
+                out.write("x")
+                out.flush()
+                written++
+            }
+        }
+
+        when:
+        List<String> chunks = chunks(ViewStreamer.stream("home", writable, StandardCharsets.UTF_8, configuration).take(2))
+
+        then:
+        chunks == ["x", "x"]
+        written < 10
+    }
+
+    void "rendering errors are surfaced as view rendering exceptions"() {
+        given:
+        Writable writable = (Writer out) -> {
+            throw new IOException("boom")
+        }
+
+        when:
+        chunks(ViewStreamer.stream("home", writable, StandardCharsets.UTF_8, new StreamingConfiguration()))
+
+        then:
+        ViewRenderingException e = thrown()
+        e.message == "Error rendering view [home]"
+    }
+
+    private static Writable writable(String content) {
+        return (Writer out) -> out.write(content)
+    }
+
+    private static List<String> chunks(Publisher<byte[]> publisher) {
+        Flux.from(publisher)
+                .map(bytes -> new String(bytes, StandardCharsets.UTF_8))
+                .collectList()
+                .block()
+    }
+}
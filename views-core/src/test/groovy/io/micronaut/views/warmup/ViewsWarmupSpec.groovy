@@ -0,0 +1,98 @@
+package io.micronaut.views.warmup
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.io.Writable
+import io.micronaut.health.HealthStatus
+import io.micronaut.http.HttpRequest
+import io.micronaut.management.health.indicator.HealthResult
+import io.micronaut.views.ViewsRenderer
+import jakarta.inject.Singleton
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.ConcurrentHashMap
+
+class ViewsWarmupSpec extends Specification {
+
+    void "views are not warmed up by default"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(['spec.name': 'ViewsWarmupSpec'])
+
+        expect:
+        !applicationContext.containsBean(ViewsWarmup)
+        !applicationContext.containsBean(ViewsWarmupHealthIndicator)
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    void "configured views are warmed up at startup"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run([
+                'spec.name': 'ViewsWarmupSpec',
+                'micronaut.views.warmup.enabled': true,
+                'micronaut.views.warmup.views': ['home', 'about', 'broken', 'missing']
+        ])
+        ViewsWarmup warmup = applicationContext.getBean(ViewsWarmup)
+        PreparingViewsRenderer renderer = applicationContext.getBean(PreparingViewsRenderer)
+        ViewsWarmupHealthIndicator healthIndicator = applicationContext.getBean(ViewsWarmupHealthIndicator)
+
+        expect:
+        new PollingConditions().eventually {
+            assert warmup.complete
+        }
+
+        when:
+        Map<String, ViewWarmupResult> results = warmup.results.get().collectEntries { [it.view(), it] }
+
+        then:
+        renderer.prepared == ['home', 'about', 'broken'] as Set
+        results.size() == 4
+        results.home.success
+        results.about.success
+        !results.broken.success
+        results.broken.error().message == 'broken'
+        !results.missing.success
+        results.missing.engine() == null
+
+        when:
+        HealthResult health = Mono.from(healthIndicator.result).block()
+
+        then:
+        health.status == HealthStatus.UP
+        health.details == [complete: true, warmed: 2L, failed: 2L]
+
+        cleanup:
+        applicationContext.close()
+    }
+
+    @Requires(property = "spec.name", value = "ViewsWarmupSpec")
+    @Singleton
+    static class PreparingViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>> {
+
+        final Set<String> prepared = ConcurrentHashMap.newKeySet()
+
+        @Override
+        @NonNull
+        Writable render(@NonNull String viewName, @Nullable T data, @Nullable HttpRequest<?> request) {
+            return (Writer out) -> out.write(viewName)
+        }
+
+        @Override
+        boolean exists(@NonNull String viewName) {
+            viewName != 'missing'
+        }
+
+        @Override
+        void prepare(@NonNull String viewName) {
+            prepared << viewName
+            if (viewName == 'broken') {
+                throw new IllegalStateException('broken')
+            }
+        }
+    }
+}
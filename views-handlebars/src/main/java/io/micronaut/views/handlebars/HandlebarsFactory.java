@@ -16,6 +16,7 @@
 package io.micronaut.views.handlebars;
 
 import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
 import io.micronaut.context.annotation.Factory;
 
 import jakarta.inject.Singleton;
@@ -30,10 +31,12 @@ import jakarta.inject.Singleton;
 public class HandlebarsFactory {
 
     /**
+     * Templates are compiled once and then cached, rather than compiled again on every render.
+     *
      * @return The handlebars engine
      */
     @Singleton
     public Handlebars handlebars() {
-        return new Handlebars();
+        return new Handlebars().with(new ConcurrentMapTemplateCache());
     }
 }
@@ -104,6 +104,22 @@ public class HandlebarsViewsRenderer<T, R> implements ViewsRenderer<T, R> {
         return resourceLoader.getResource(location).isPresent();
     }
 
+    /**
+     * Compiles the template, which the {@link Handlebars} engine keeps if it has a template cache, as the one of
+     * {@link HandlebarsFactory} does.
+     *
+     * @param viewName view name to be rendered
+     * @since 5.6.0
+     */
+    @Override
+    public void prepare(@NonNull String viewName) {
+        try {
+            handlebars.compile(viewLocation(viewName));
+        } catch (IOException e) {
+            throw new ViewRenderingException("Error preparing Handlebars view [" + viewName + "]: " + e.getMessage(), e);
+        }
+    }
+
     private String viewLocation(final String name) {
         return folder + ViewUtils.normalizeFile(name, extension());
     }
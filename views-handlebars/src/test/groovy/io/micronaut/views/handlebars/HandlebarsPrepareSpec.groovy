@@ -0,0 +1,32 @@
+package io.micronaut.views.handlebars
+
+import com.github.jknack.handlebars.Handlebars
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(startApplication = false)
+class HandlebarsPrepareSpec extends Specification {
+
+    @Inject
+    HandlebarsViewsRenderer<?, ?> viewRenderer
+
+    @Inject
+    Handlebars handlebars
+
+    void "a prepared view is compiled once and cached"() {
+        when:
+        viewRenderer.prepare("tim")
+
+        then:
+        handlebars.compile("views/tim").is(handlebars.compile("views/tim"))
+    }
+
+    void "preparing a view which doesn't compile fails"() {
+        when:
+        viewRenderer.prepare("badsyntax")
+
+        then:
+        thrown(Exception)
+    }
+}
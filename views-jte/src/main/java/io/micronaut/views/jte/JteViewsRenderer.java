@@ -18,6 +18,7 @@ package io.micronaut.views.jte;
 import gg.jte.CodeResolver;
 import gg.jte.ContentType;
 import gg.jte.TemplateEngine;
+import gg.jte.TemplateException;
 import gg.jte.TemplateOutput;
 import gg.jte.resolve.DirectoryCodeResolver;
 import gg.jte.resolve.ResourceCodeResolver;
@@ -35,6 +36,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.Arrays;
@@ -52,6 +56,13 @@ public abstract class JteViewsRenderer<T, R> implements ViewsRenderer<T, R> {
     private static final Logger LOGGER = LoggerFactory.getLogger(JteViewsRenderer.class);
     private static final List<String> EXTENSIONS = Arrays.asList(".jte", ".kte");
     private final TemplateEngine templateEngine;
+    private final int outputBufferSize;
+    private final boolean dynamic;
+    // View names resolved to template names, with their extension
+    private final Map<String, String> templateNames = new ConcurrentHashMap<>();
+    // The type of the single parameter of each template, when it has exactly one. Not cached for dynamic templates,
+    // as their parameters may change when they are reloaded.
+    private final Map<String, Optional<Class<?>>> paramTypes = new ConcurrentHashMap<>();
 
     /**
      * @param viewsConfiguration Views configuration
@@ -73,6 +84,8 @@ public abstract class JteViewsRenderer<T, R> implements ViewsRenderer<T, R> {
             templateEngine = TemplateEngine.createPrecompiled(contentType);
         }
         templateEngine.setBinaryStaticContent(jteViewsRendererConfiguration.isBinaryStaticContent());
+        outputBufferSize = jteViewsRendererConfiguration.getOutputBufferSize();
+        dynamic = jteViewsRendererConfiguration.isDynamic();
     }
 
     private CodeResolver newDynamicCodeResolver(JteViewsRendererConfiguration jteViewsRendererConfiguration, String folder) {
@@ -126,7 +139,16 @@ public abstract class JteViewsRenderer<T, R> implements ViewsRenderer<T, R> {
     public Writable render(@NonNull String viewName,
                            @Nullable T data,
                            @Nullable R request) {
-        return new JteWritable(templateEngine, viewName(viewName), ViewUtils.modelOf(data), this::decorateOutput);
+        String name = viewName(viewName);
+        if (name != null && data != null && !(data instanceof Map)) {
+            // a template which declares the model's exact class as its only parameter is given the model itself;
+            // a supertype such as Object may just as well stand for one of the model's properties
+            Class<?> paramType = paramType(name).orElse(null);
+            if (paramType == data.getClass()) {
+                return new JteWritable(templateEngine, name, null, data, this::decorateOutput, outputBufferSize);
+            }
+        }
+        return new JteWritable(templateEngine, name, ViewUtils.modelOf(data), this::decorateOutput, outputBufferSize);
     }
 
     /**
@@ -143,19 +165,53 @@ public abstract class JteViewsRenderer<T, R> implements ViewsRenderer<T, R> {
 
     @Override
     public boolean exists(@NonNull String viewName) {
-        return EXTENSIONS.stream()
-            .anyMatch(x -> templateEngine.hasTemplate(viewName(viewName, x)));
+        return viewName(viewName) != null;
+    }
+
+    @Override
+    public void prepare(@NonNull String viewName) {
+        String name = viewName(viewName);
+        if (name != null) {
+            templateEngine.prepareForRendering(name);
+        }
     }
 
     private String viewName(@NonNull String name, @NonNull String extension) {
         return ViewUtils.normalizeFile(name, extension) + extension;
     }
 
+    @Nullable
     private String viewName(@NonNull String viewName) {
+        // only found names are cached, so templates added later are picked up
+        return templateNames.computeIfAbsent(viewName, this::findViewName);
+    }
+
+    @Nullable
+    private String findViewName(@NonNull String viewName) {
         return EXTENSIONS.stream()
             .filter(x -> templateEngine.hasTemplate(viewName(viewName, x)))
             .map(x -> viewName(viewName, x))
             .findFirst()
             .orElse(null);
     }
+
+    private Optional<Class<?>> paramType(@NonNull String name) {
+        if (dynamic) {
+            return findParamType(name);
+        }
+        return paramTypes.computeIfAbsent(name, this::findParamType);
+    }
+
+    private Optional<Class<?>> findParamType(@NonNull String name) {
+        try {
+            Map<String, Class<?>> paramInfo = templateEngine.getParamInfo(name);
+            if (paramInfo.size() == 1) {
+                return Optional.of(paramInfo.values().iterator().next());
+            }
+        } catch (TemplateException e) {
+            // the template doesn't compile, which rendering it will report
+            LOGGER.debug("Unable to read the parameters of template {}", name, e);
+        }
+        return Optional.empty();
+    }
 }
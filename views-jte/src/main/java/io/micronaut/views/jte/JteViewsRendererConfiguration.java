@@ -48,4 +48,14 @@ public interface JteViewsRendererConfiguration {
      * @return true to enable building binary content
      */
     boolean isBinaryStaticContent();
+
+    /**
+     * The number of bytes of a page encoded to UTF-8 which are buffered before they are written to the response, and
+     * so the most of the page held in memory at once.
+     * @return the buffer size in bytes
+     * @since 5.6.0
+     */
+    default int getOutputBufferSize() {
+        return JteViewsRendererConfigurationProperties.DEFAULT_OUTPUT_BUFFER_SIZE;
+    }
 }
@@ -43,9 +43,16 @@ public final class JteViewsRendererConfigurationProperties implements JteViewsRe
 
     public static final boolean DEFAULT_BINARY_STATIC_CONTENT = false;
 
+    /**
+     * The default output buffer size.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_OUTPUT_BUFFER_SIZE = 8192;
+
     private boolean dynamic = DEFAULT_DYNAMIC;
     private String dynamicPath = DEFAULT_DYNAMIC_PATH;
     private boolean binaryStaticContent = DEFAULT_BINARY_STATIC_CONTENT;
+    private int outputBufferSize = DEFAULT_OUTPUT_BUFFER_SIZE;
     private String dynamicSourcePath;
 
     /**
@@ -103,4 +110,21 @@ public final class JteViewsRendererConfigurationProperties implements JteViewsRe
     public void setBinaryStaticContent(boolean binaryStaticContent) {
         this.binaryStaticContent = binaryStaticContent;
     }
+
+    @Override
+    public int getOutputBufferSize() {
+        return outputBufferSize;
+    }
+
+    /**
+     * The number of bytes of a page encoded to UTF-8 which are buffered before they are written to the response.
+     * Default value ({@value #DEFAULT_OUTPUT_BUFFER_SIZE}).
+     * @param outputBufferSize the buffer size in bytes
+     * @since 5.6.0
+     */
+    public void setOutputBufferSize(int outputBufferSize) {
+        if (outputBufferSize > 0) {
+            this.outputBufferSize = outputBufferSize;
+        }
+    }
 }
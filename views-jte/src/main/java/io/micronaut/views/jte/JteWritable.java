@@ -17,12 +17,13 @@ package io.micronaut.views.jte;
 
 import gg.jte.TemplateEngine;
 import gg.jte.TemplateOutput;
-import gg.jte.output.Utf8ByteOutput;
 import gg.jte.output.WriterOutput;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.Writable;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -36,18 +37,50 @@ public class JteWritable implements Writable {
     private final TemplateEngine templateEngine;
     private final String viewName;
     private final Map<String, Object> data;
+    private final Object param;
     private final Function<TemplateOutput, TemplateOutput> outputDecorator;
+    private final int outputBufferSize;
 
     public JteWritable(TemplateEngine templateEngine, String viewName, Map<String, Object> data, Function<TemplateOutput, TemplateOutput> outputDecorator) {
+        this(templateEngine, viewName, data, outputDecorator, JteViewsRendererConfigurationProperties.DEFAULT_OUTPUT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param templateEngine The template engine
+     * @param viewName The name of the template
+     * @param data The model
+     * @param outputDecorator Decorates the output the template is rendered to
+     * @param outputBufferSize The number of bytes buffered before they are written to the output stream
+     * @since 5.6.0
+     */
+    public JteWritable(TemplateEngine templateEngine, String viewName, Map<String, Object> data, Function<TemplateOutput, TemplateOutput> outputDecorator, int outputBufferSize) {
+        this(templateEngine, viewName, data, null, outputDecorator, outputBufferSize);
+    }
+
+    /**
+     * @param templateEngine The template engine
+     * @param viewName The name of the template
+     * @param data The model, as the template's parameters by name
+     * @param param The model, as the template's only parameter, if given in place of data
+     * @param outputDecorator Decorates the output the template is rendered to
+     * @param outputBufferSize The number of bytes buffered before they are written to the output stream
+     */
+    JteWritable(TemplateEngine templateEngine, String viewName, @Nullable Map<String, Object> data, @Nullable Object param, Function<TemplateOutput, TemplateOutput> outputDecorator, int outputBufferSize) {
         this.templateEngine = templateEngine;
         this.viewName = viewName;
         this.data = data;
+        this.param = param;
         this.outputDecorator = outputDecorator;
+        this.outputBufferSize = outputBufferSize;
     }
 
     private void render(TemplateOutput output) {
         TemplateOutput decorated = outputDecorator.apply(output);
-        templateEngine.render(viewName, data, decorated);
+        if (param != null) {
+            templateEngine.render(viewName, param, decorated);
+        } else {
+            templateEngine.render(viewName, data, decorated);
+        }
     }
 
     @Override
@@ -60,9 +93,14 @@ public class JteWritable implements Writable {
     public void writeTo(OutputStream outputStream, Charset charset) throws IOException {
         if (charset == null || StandardCharsets.UTF_8.equals(charset)) {
             // this enables "binary output" - see https://github.com/casid/jte/blob/master/DOCUMENTATION.md#binary-rendering-for-max-throughput
-            Utf8ByteOutput output = new Utf8ByteOutput();
-            render(output);
-            output.writeTo(outputStream);
+            // The page is written to the stream as it is rendered rather than held in memory in full.
+            Utf8StreamOutput output = new Utf8StreamOutput(outputStream, outputBufferSize);
+            try {
+                render(output);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            output.flush();
         } else {
             Writable.super.writeTo(outputStream, charset);
         }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.jte;
+
+import gg.jte.TemplateOutput;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * A JTE output which encodes content to UTF-8 straight into a buffer of the given size, and writes it to the
+ * stream each time the buffer fills up, so a page is never held in memory in full. Binary static content which
+ * doesn't fit in the buffer is written to the stream as it is, without being copied.
+ *
+ * @since 5.6.0
+ */
+final class Utf8StreamOutput implements TemplateOutput {
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int count;
+
+    /**
+     * @param out The stream to write to
+     * @param bufferSize The number of bytes buffered before they are written to the stream
+     */
+    Utf8StreamOutput(OutputStream out, int bufferSize) {
+        this.out = out;
+        // Room for at least one encoded character.
+        this.buffer = new byte[Math.max(bufferSize, 4)];
+    }
+
+    @Override
+    public void writeContent(String value) {
+        writeContent(value, 0, value.length());
+    }
+
+    @Override
+    public void writeContent(String value, int beginIndex, int endIndex) {
+        int i = beginIndex;
+        while (i < endIndex) {
+            if (buffer.length - count < 4) {
+                flushBuffer();
+            }
+            char c = value.charAt(i++);
+            if (c < 0x80) {
+                // Copies the run of ASCII characters that fits in the buffer without checking for room each time.
+                buffer[count++] = (byte) c;
+                int end = Math.min(endIndex, i + buffer.length - count);
+                while (i < end && (c = value.charAt(i)) < 0x80) {
+                    buffer[count++] = (byte) c;
+                    i++;
+                }
+            } else if (c < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i < endIndex && Character.isLowSurrogate(value.charAt(i))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(i++));
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // An unpaired surrogate can't be encoded.
+                buffer[count++] = '?';
+            } else {
+                buffer[count++] = (byte) (0xE0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    @Override
+    public void writeBinaryContent(byte[] value) {
+        if (value.length <= buffer.length - count) {
+            System.arraycopy(value, 0, buffer, count, value.length);
+            count += value.length;
+        } else {
+            flushBuffer();
+            try {
+                out.write(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes out what is left in the buffer.
+     *
+     * @throws IOException if the stream fails
+     */
+    void flush() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private void flushBuffer() {
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
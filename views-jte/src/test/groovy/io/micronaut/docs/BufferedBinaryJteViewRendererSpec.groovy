@@ -0,0 +1,14 @@
+package io.micronaut.docs
+
+class BufferedBinaryJteViewRendererSpec extends JteViewRendererSpec {
+    @Override
+    Map<String, Object> getTestProperties() {
+        return [
+                'spec.name': 'jte',
+                'micronaut.security.enabled': false,
+                'micronaut.views.jte.dynamic': true,
+                'micronaut.views.jte.binaryStaticContent': true,
+                'micronaut.views.jte.output-buffer-size': 16
+        ] as Map<String, Object>
+    }
+}
@@ -0,0 +1,42 @@
+package io.micronaut.jte
+
+import io.micronaut.core.io.Writable
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.views.jte.HtmlJteViewsRenderer
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.LocalDate
+
+@MicronautTest(startApplication = false)
+class JteTypedParamRenderSpec extends Specification {
+
+    @Inject
+    HtmlJteViewsRenderer<?> htmlJteViewsRenderer
+
+    void "a template with a single parameter of the model's type is given the model"() {
+        expect:
+        output("date", LocalDate.of(2024, 5, 1)).contains("year: <span>2024</span>")
+    }
+
+    void "other templates are given the model's properties by name"() {
+        expect:
+        output("tim", ["username": "Tim"]).contains("username: <span>Tim</span>")
+        output("tim", new User("Tim")).contains("username: <span>Tim</span>")
+    }
+
+    void "a single parameter of a supertype of the model is given the property by name"() {
+        expect:
+        output("object", new User("Tim")).contains("username: <span>Tim</span>")
+        output("object", ["username": "Tim"]).contains("username: <span>Tim</span>")
+    }
+
+    private String output(String view, Object model) {
+        Writable writable = htmlJteViewsRenderer.render(view, model, null)
+        new ByteArrayOutputStream().with {
+            writable.writeTo(it, StandardCharsets.UTF_8)
+            new String(it.toByteArray(), StandardCharsets.UTF_8)
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package io.micronaut.jte
+
+import groovy.transform.Canonical
+import groovy.transform.CompileStatic
+import io.micronaut.core.annotation.Introspected
+
+@Canonical
+@CompileStatic
+@Introspected
+class User {
+    String username
+}
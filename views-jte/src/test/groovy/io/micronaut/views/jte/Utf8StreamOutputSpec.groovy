@@ -0,0 +1,76 @@
+package io.micronaut.views.jte
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+
+class Utf8StreamOutputSpec extends Specification {
+
+    @Unroll
+    void "#description is encoded like String.getBytes across buffer boundaries of #bufferSize bytes"() {
+        given:
+        def bytes = new ByteArrayOutputStream()
+        def output = new Utf8StreamOutput(bytes, bufferSize)
+
+        when:
+        output.writeContent(value)
+        output.flush()
+
+        then:
+        bytes.toByteArray() == value.getBytes(StandardCharsets.UTF_8)
+
+        where:
+        [description, value, bufferSize] << [
+                [
+                        'ascii': 'Hello <span>world</span>',
+                        '2-byte characters': 'abéßécß',
+                        '3-byte characters': 'a€中bc€中',
+                        '4-byte characters': 'a😀bc😀d😀',
+                        'unpaired high surrogates': 'ab\ud83dc\ud83d',
+                        'unpaired low surrogates': 'a\ude00bc\ude00\ude00',
+                        'reversed surrogates': 'a\ude00\ud83dbc',
+                        'mixed characters': 'aé€😀\ud800bß中\udc00c'
+                ].entrySet(),
+                4..9
+        ].combinations().collect { entry, size -> [entry.key, entry.value, size] }
+    }
+
+    void "only the given range is encoded"() {
+        given:
+        def bytes = new ByteArrayOutputStream()
+        def output = new Utf8StreamOutput(bytes, 4)
+
+        when: "the range splits a surrogate pair"
+        output.writeContent('aé😀b', 1, 3)
+        output.flush()
+
+        then:
+        bytes.toByteArray() == 'é\ud83d'.getBytes(StandardCharsets.UTF_8)
+    }
+
+    void "the buffer is written to the stream each time it fills up"() {
+        given:
+        def writes = []
+        def stream = new OutputStream() {
+            @Override
+            void write(int b) {
+                writes << 1
+            }
+
+            @Override
+            void write(byte[] b, int off, int len) {
+                writes << len
+            }
+        }
+        def output = new Utf8StreamOutput(stream, 8)
+
+        when:
+        output.writeContent('abcdefghij€')
+        output.flush()
+
+        then:
+        writes.sum() == 13
+        writes.every { it <= 8 }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.micrometer;
+
+import freemarker.cache.CacheStorage;
+import freemarker.cache.CacheStorageWithGetSize;
+import freemarker.template.Configuration;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.views.freemarker.FreemarkerViewsRendererConfigurationProperties;
+import jakarta.inject.Singleton;
+
+/**
+ * Binds the size of the FreeMarker template cache storage.
+ *
+ * @since 5.6.0
+ */
+@Singleton
+@Requires(classes = Configuration.class)
+@Requires(beans = FreemarkerViewsRendererConfigurationProperties.class)
+@Requires(property = ViewsMetricsConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public class FreemarkerMetricsBinder implements MeterBinder {
+
+    private static final String ENGINE = "freemarker";
+
+    private final Configuration configuration;
+
+    /**
+     * @param configuration FreeMarker configuration
+     */
+    public FreemarkerMetricsBinder(FreemarkerViewsRendererConfigurationProperties configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(ViewsMetrics.ENGINE_CACHE_SIZE, configuration, FreemarkerMetricsBinder::cacheSize)
+            .description("Templates cached by the engine")
+            .tag(ViewsMetrics.TAG_ENGINE, ENGINE)
+            .register(registry);
+    }
+
+    private static double cacheSize(Configuration configuration) {
+        CacheStorage cacheStorage = configuration.getCacheStorage();
+        return cacheStorage instanceof CacheStorageWithGetSize sized ? sized.getSize() : 0;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.micrometer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.views.ViewUtils;
+import io.micronaut.views.ViewsRenderer;
+import io.micronaut.views.observation.ViewsObserver;
+import io.micronaut.views.observation.ViewsPhase;
+import jakarta.inject.Singleton;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records a timer per phase of rendering a view, {@code views.locate}, {@code views.decorate}, {@code views.render}
+ * and {@code views.write}, the bytes written and the errors raised, tagged by engine and view name.
+ *
+ * @since 5.6.0
+ */
+@Singleton
+@Requires(beans = MeterRegistry.class)
+@Requires(property = ViewsMetricsConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public class MicrometerViewsObserver implements ViewsObserver {
+
+    private static final ViewsPhase[] PHASES = ViewsPhase.values();
+
+    private final MeterRegistry meterRegistry;
+    private final ViewNameTags viewNameTags;
+    private final Map<Class<?>, String> engines = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Meters>> meters = new ConcurrentHashMap<>();
+
+    /**
+     * @param meterRegistry Meter registry
+     * @param configuration Views metrics configuration
+     */
+    public MicrometerViewsObserver(MeterRegistry meterRegistry, ViewsMetricsConfiguration configuration) {
+        this.meterRegistry = meterRegistry;
+        this.viewNameTags = new ViewNameTags(configuration);
+    }
+
+    @Override
+    public void onPhase(@NonNull ViewsPhase phase, @NonNull String view, @Nullable ViewsRenderer<?, ?> renderer, long durationNanos) {
+        meters(view, renderer).timers[phase.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onWritten(@NonNull String view, @NonNull ViewsRenderer<?, ?> renderer, long bytes) {
+        meters(view, renderer).written.increment(bytes);
+    }
+
+    @Override
+    public void onError(@NonNull ViewsPhase phase, @NonNull String view, @Nullable ViewsRenderer<?, ?> renderer, @NonNull Throwable error) {
+        Counter.builder(ViewsMetrics.ERRORS)
+            .description("Errors raised rendering views")
+            .tags(tags(engine(renderer), viewNameTags.tag(view)))
+            .tag(ViewsMetrics.TAG_PHASE, name(phase))
+            .tag(ViewsMetrics.TAG_EXCEPTION, error.getClass().getSimpleName())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    @NonNull
+    private Meters meters(@NonNull String view, @Nullable ViewsRenderer<?, ?> renderer) {
+        String engine = engine(renderer);
+        String tag = viewNameTags.tag(view);
+        Map<String, Meters> byView = meters.get(engine);
+        if (byView == null) {
+            byView = meters.computeIfAbsent(engine, k -> new ConcurrentHashMap<>());
+        }
+        Meters result = byView.get(tag);
+        if (result == null) {
+            result = byView.computeIfAbsent(tag, k -> new Meters(meterRegistry, tags(engine, tag)));
+        }
+        return result;
+    }
+
+    @NonNull
+    private String engine(@Nullable ViewsRenderer<?, ?> renderer) {
+        if (renderer == null) {
+            return ViewsMetrics.OTHER;
+        }
+        return engines.computeIfAbsent(renderer.getClass(), type -> {
+            String engine = ViewUtils.engine(type);
+            return engine != null ? engine : type.getSimpleName();
+        });
+    }
+
+    @NonNull
+    private static Tags tags(@NonNull String engine, @NonNull String view) {
+        return Tags.of(ViewsMetrics.TAG_ENGINE, engine, ViewsMetrics.TAG_VIEW, view);
+    }
+
+    @NonNull
+    private static String name(@NonNull ViewsPhase phase) {
+        return phase.name().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * The meters of a view rendered by an engine.
+     */
+    private static final class Meters {
+
+        private final Timer[] timers = new Timer[PHASES.length];
+        private final Counter written;
+
+        private Meters(MeterRegistry meterRegistry, Tags tags) {
+            for (ViewsPhase phase : PHASES) {
+                timers[phase.ordinal()] = Timer.builder(ViewsMetrics.PREFIX + "." + name(phase))
+                    .description("Time spent in the " + name(phase) + " phase of rendering views")
+                    .tags(tags)
+                    .register(meterRegistry);
+            }
+            written = Counter.builder(ViewsMetrics.WRITTEN)
+                .description("Bytes written by views")
+                .baseUnit(BaseUnits.BYTES)
+                .tags(tags)
+                .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.views.react.ReactContextPoolMetrics;
+import jakarta.inject.Singleton;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binds the statistics of the pool of Javascript contexts React views are rendered with.
+ *
+ * @since 5.6.0
+ */
+@Singleton
+@Requires(classes = ReactContextPoolMetrics.class)
+@Requires(beans = ReactContextPoolMetrics.class)
+@Requires(property = ViewsMetricsConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public class ReactMetricsBinder implements MeterBinder {
+
+    private static final String PREFIX = ViewsMetrics.PREFIX + ".react.contexts";
+
+    private final ReactContextPoolMetrics pool;
+
+    /**
+     * @param pool Statistics of the pool of Javascript contexts
+     */
+    public ReactMetricsBinder(ReactContextPoolMetrics pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(PREFIX + ".size", pool, ReactContextPoolMetrics::getSize)
+            .description("Javascript contexts, idle or in use")
+            .register(registry);
+        Gauge.builder(PREFIX + ".active", pool, ReactContextPoolMetrics::getActive)
+            .description("Javascript contexts in use")
+            .register(registry);
+        Gauge.builder(PREFIX + ".max", pool, ReactContextPoolMetrics::getMaxSize)
+            .description("Maximum number of Javascript contexts")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".created", pool, ReactContextPoolMetrics::getCreated)
+            .description("Javascript contexts created")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".timeouts", pool, ReactContextPoolMetrics::getTimeouts)
+            .description("Renders which timed out waiting for a Javascript context")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".recycled", pool, ReactContextPoolMetrics::getRecycled)
+            .description("Javascript contexts closed because a render was cancelled or exceeded its resource limits")
+            .register(registry);
+        FunctionCounter.builder(ViewsMetrics.PREFIX + ".react.fallbacks", pool, ReactContextPoolMetrics::getFallbacks)
+            .description("Renders replaced by client side rendering")
+            .register(registry);
+        FunctionTimer.builder(PREFIX + ".acquire", pool, ReactContextPoolMetrics::getAcquisitions, ReactContextPoolMetrics::getWaitNanos, TimeUnit.NANOSECONDS)
+            .description("Time spent waiting for a Javascript context")
+            .register(registry);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.micrometer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import jakarta.inject.Singleton;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.ICacheManager;
+import org.thymeleaf.cache.StandardCache;
+
+/**
+ * Binds the size of the Thymeleaf template cache.
+ *
+ * @since 5.6.0
+ */
+@Singleton
+@Requires(classes = TemplateEngine.class)
+@Requires(beans = TemplateEngine.class)
+@Requires(property = ViewsMetricsConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public class ThymeleafMetricsBinder implements MeterBinder {
+
+    private static final String ENGINE = "thymeleaf";
+
+    private final TemplateEngine templateEngine;
+
+    /**
+     * @param templateEngine Thymeleaf template engine
+     */
+    public ThymeleafMetricsBinder(TemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(ViewsMetrics.ENGINE_CACHE_SIZE, templateEngine, ThymeleafMetricsBinder::cacheSize)
+            .description("Templates cached by the engine")
+            .tag(ViewsMetrics.TAG_ENGINE, ENGINE)
+            .register(registry);
+    }
+
+    private static double cacheSize(TemplateEngine templateEngine) {
+        ICacheManager cacheManager = templateEngine.getConfiguration().getCacheManager();
+        ICache<?, ?> cache = cacheManager != null ? cacheManager.getTemplateCache() : null;
+        if (cache == null) {
+            return 0;
+        }
+        return cache instanceof StandardCache<?, ?> standardCache ? standardCache.size() : cache.keySet().size();
+    }
+}
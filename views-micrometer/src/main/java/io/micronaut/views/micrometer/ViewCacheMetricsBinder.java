@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.views.cache.ViewCache;
+import jakarta.inject.Singleton;
+
+/**
+ * Binds the statistics of the {@link ViewCache}.
+ *
+ * @since 5.6.0
+ */
+@Singleton
+@Requires(beans = ViewCache.class)
+@Requires(property = ViewsMetricsConfiguration.PREFIX + ".enabled", notEquals = StringUtils.FALSE)
+public class ViewCacheMetricsBinder implements MeterBinder {
+
+    private static final String PREFIX = ViewsMetrics.PREFIX + ".cache";
+
+    private final ViewCache viewCache;
+
+    /**
+     * @param viewCache View cache
+     */
+    public ViewCacheMetricsBinder(ViewCache viewCache) {
+        this.viewCache = viewCache;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(PREFIX + ".hits", viewCache, cache -> cache.getStatistics().hits())
+            .description("Rendered views served from the cache")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".misses", viewCache, cache -> cache.getStatistics().misses())
+            .description("Cacheable views not found in the cache")
+            .register(registry);
+        FunctionCounter.builder(PREFIX + ".evictions", viewCache, cache -> cache.getStatistics().evictions())
+            .description("Rendered views evicted from the cache")
+            .register(registry);
+        Gauge.builder(PREFIX + ".size", viewCache, cache -> cache.getStatistics().size())
+            .description("Rendered views in the cache")
+            .register(registry);
+        Gauge.builder(PREFIX + ".weight", viewCache, cache -> cache.getStatistics().weight())
+            .description("Size of the rendered views in the cache")
+            .baseUnit(BaseUnits.BYTES)
+            .register(registry);
+    }
+}
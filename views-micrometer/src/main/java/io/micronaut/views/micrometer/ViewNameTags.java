@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.micrometer;
+
+import io.micronaut.core.annotation.NonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounds the view names used as tag values, either to the configured view names or to the first views rendered.
+ */
+final class ViewNameTags {
+
+    private final Set<String> allowed;
+    private final boolean allowList;
+    private final int maximum;
+
+    ViewNameTags(@NonNull ViewsMetricsConfiguration configuration) {
+        this.allowList = !configuration.getViewNames().isEmpty();
+        this.allowed = allowList ? new HashSet<>(configuration.getViewNames()) : ConcurrentHashMap.newKeySet();
+        this.maximum = configuration.getMaximumViewNames();
+    }
+
+    /**
+     * @param view The view name
+     * @return The tag value of the view
+     */
+    @NonNull
+    String tag(@NonNull String view) {
+        if (allowed.contains(view)) {
+            return view;
+        }
+        if (allowList) {
+            return ViewsMetrics.OTHER;
+        }
+        synchronized (allowed) {
+            if (allowed.size() < maximum) {
+                allowed.add(view);
+                return view;
+            }
+        }
+        return ViewsMetrics.OTHER;
+    }
+}
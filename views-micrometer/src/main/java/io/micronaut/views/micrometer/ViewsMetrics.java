@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.micrometer;
+
+/**
+ * Names of the views meters and their tags.
+ *
+ * @since 5.6.0
+ */
+public final class ViewsMetrics {
+
+    /**
+     * Prefix of the views meter names.
+     */
+    public static final String PREFIX = "views";
+
+    /**
+     * The bytes written by views.
+     */
+    public static final String WRITTEN = PREFIX + ".written";
+
+    /**
+     * The errors raised rendering views.
+     */
+    public static final String ERRORS = PREFIX + ".errors";
+
+    /**
+     * The number of templates cached by an engine.
+     */
+    public static final String ENGINE_CACHE_SIZE = PREFIX + ".engine.cache.size";
+
+    /**
+     * Tag of the engine which renders a view, e.g. {@code thymeleaf}.
+     */
+    public static final String TAG_ENGINE = "engine";
+
+    /**
+     * Tag of the view name.
+     */
+    public static final String TAG_VIEW = "view";
+
+    /**
+     * Tag of the phase of rendering a view.
+     */
+    public static final String TAG_PHASE = "phase";
+
+    /**
+     * Tag of the exception raised rendering a view.
+     */
+    public static final String TAG_EXCEPTION = "exception";
+
+    /**
+     * Value of {@link #TAG_VIEW} for views which are not tagged by name, and of {@link #TAG_ENGINE} when no renderer
+     * was located.
+     */
+    public static final String OTHER = "other";
+
+    private ViewsMetrics() {
+    }
+}
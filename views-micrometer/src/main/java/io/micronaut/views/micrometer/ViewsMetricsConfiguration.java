@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.micrometer;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.util.Toggleable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration of the views metrics.
+ *
+ * @since 5.6.0
+ */
+@ConfigurationProperties(ViewsMetricsConfiguration.PREFIX)
+public class ViewsMetricsConfiguration implements Toggleable {
+
+    /**
+     * The prefix for views metrics configuration.
+     */
+    public static final String PREFIX = "micronaut.metrics.binders.views";
+
+    /**
+     * The default enable value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /**
+     * The default maximum number of view names used as tags.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final int DEFAULT_MAXIMUM_VIEW_NAMES = 100;
+
+    private boolean enabled = DEFAULT_ENABLED;
+
+    @NonNull
+    private List<String> viewNames = Collections.emptyList();
+
+    private int maximumViewNames = DEFAULT_MAXIMUM_VIEW_NAMES;
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether views metrics are recorded. Default value {@value #DEFAULT_ENABLED}.
+     *
+     * @param enabled True if views metrics are recorded
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The view names used as tags
+     */
+    @NonNull
+    public List<String> getViewNames() {
+        return viewNames;
+    }
+
+    /**
+     * The view names used as tags, other views are tagged {@code other}. When empty, the first
+     * {@code maximum-view-names} views rendered are used as tags.
+     *
+     * @param viewNames The view names used as tags
+     */
+    public void setViewNames(@NonNull List<String> viewNames) {
+        this.viewNames = viewNames;
+    }
+
+    /**
+     * @return The maximum number of view names used as tags
+     */
+    public int getMaximumViewNames() {
+        return maximumViewNames;
+    }
+
+    /**
+     * The maximum number of view names used as tags when no view names are configured, other views are tagged
+     * {@code other}. Default value {@value #DEFAULT_MAXIMUM_VIEW_NAMES}.
+     *
+     * @param maximumViewNames The maximum number of view names used as tags
+     */
+    public void setMaximumViewNames(int maximumViewNames) {
+        this.maximumViewNames = maximumViewNames;
+    }
+}
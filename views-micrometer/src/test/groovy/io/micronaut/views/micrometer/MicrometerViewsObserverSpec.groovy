@@ -0,0 +1,96 @@
+package io.micronaut.views.micrometer
+
+import io.micrometer.core.instrument.MeterRegistry
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.annotation.NonNull
+import io.micronaut.core.annotation.Nullable
+import io.micronaut.core.io.Writable
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.MediaType
+import io.micronaut.views.ModelAndView
+import io.micronaut.views.ModelAndViewRenderer
+import io.micronaut.views.ViewsRenderer
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+class MicrometerViewsObserverSpec extends Specification {
+
+    void "rendering a view records a timer per phase and the bytes written"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run(['spec.name': 'MicrometerViewsObserverSpec'])
+        MeterRegistry registry = ctx.getBean(MeterRegistry)
+
+        when:
+        render(ctx, 'home')
+
+        then:
+        ['views.locate', 'views.decorate', 'views.render', 'views.write'].every {
+            registry.get(it).tag('view', 'home').timer().count() == 1
+        }
+        registry.get('views.written').tag('view', 'home').counter().count() == 'home'.length()
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "view name tags are bounded"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+                'spec.name': 'MicrometerViewsObserverSpec',
+                'micronaut.metrics.binders.views.view-names': ['home']
+        ])
+        MeterRegistry registry = ctx.getBean(MeterRegistry)
+
+        when:
+        render(ctx, 'home')
+        render(ctx, 'about')
+        render(ctx, 'contact')
+
+        then:
+        registry.get('views.render').tag('view', 'home').timer().count() == 1
+        registry.get('views.render').tag('view', 'other').timer().count() == 2
+
+        cleanup:
+        ctx.close()
+    }
+
+    void "no metrics are recorded when disabled"() {
+        given:
+        ApplicationContext ctx = ApplicationContext.run([
+                'spec.name': 'MicrometerViewsObserverSpec',
+                'micronaut.metrics.binders.views.enabled': false
+        ])
+
+        expect:
+        !ctx.containsBean(MicrometerViewsObserver)
+
+        cleanup:
+        ctx.close()
+    }
+
+    private static void render(ApplicationContext ctx, String view) {
+        Writable writable = ctx.getBean(ModelAndViewRenderer)
+                .render(new ModelAndView(view, [:]), HttpRequest.GET('/'), MediaType.TEXT_HTML)
+                .get()
+        writable.writeTo(new ByteArrayOutputStream(), StandardCharsets.UTF_8)
+    }
+
+    @Requires(property = "spec.name", value = "MicrometerViewsObserverSpec")
+    @Singleton
+    static class NameViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>> {
+
+        @Override
+        @NonNull
+        Writable render(@NonNull String viewName, @Nullable T data, @Nullable HttpRequest<?> request) {
+            return (Writer out) -> out.write(viewName)
+        }
+
+        @Override
+        boolean exists(@NonNull String viewName) {
+            true
+        }
+    }
+}
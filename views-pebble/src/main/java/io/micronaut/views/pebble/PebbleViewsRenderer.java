@@ -77,4 +77,13 @@ public class PebbleViewsRenderer<T, R> implements ViewsRenderer<T, R> {
     public boolean exists(@NonNull String name) {
         return engine.getLoader().resourceExists(name);
     }
+
+    @Override
+    public void prepare(@NonNull String name) {
+        try {
+            engine.getTemplate(name);
+        } catch (Exception e) {
+            throw new ViewRenderingException("Error preparing Pebble view [" + name + "]: " + e.getMessage(), e);
+        }
+    }
 }
@@ -16,6 +16,7 @@
 package io.micronaut.views.react;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -25,11 +26,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 
-import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
 
 /**
- * Holds the thread-safe {@link Engine} and {@link Source} which together pin compiled machine code
- * into the JVM code cache.
+ * Holds the thread-safe {@link Engine} which, together with the {@link Source} of the server bundle
+ * that every context of a generation evaluates, pins compiled machine code into the JVM code cache.
  */
 @Singleton
 @Internal
@@ -37,30 +40,31 @@ class CompiledJS implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger("js");
 
     final Engine engine;
-    private Source source;
-    private final JSBundlePaths jsBundlePaths;
 
     @Inject
-    CompiledJS(JSBundlePaths jsBundlePaths, JSEngineLogHandler engineLogHandler, JSSandboxing sandboxing) {
-        var engineBuilder = Engine.newBuilder("js")
+    CompiledJS(JSEngineLogHandler engineLogHandler, JSSandboxing sandboxing, ReactViewsRendererConfiguration configuration) {
+        Supplier<Engine.Builder> engineBuilder = () -> sandboxing.configure(Engine.newBuilder("js")
             .out(new OutputStreamToSLF4J(LOG, Level.INFO))
             .err(new OutputStreamToSLF4J(LOG, Level.ERROR))
-            .logHandler(engineLogHandler);
-        engine = sandboxing.configure(engineBuilder).build();
-        this.jsBundlePaths = jsBundlePaths;
-        reload();
+            .logHandler(engineLogHandler));
+        engine = buildEngine(engineBuilder, configuration.getCodeCachePath());
     }
 
-    synchronized Source getSource() {
-        return source;
-    }
-
-    synchronized void reload() {
-        try {
-            source = jsBundlePaths.readServerBundle();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    private static Engine buildEngine(Supplier<Engine.Builder> engineBuilder, @Nullable Path codeCache) {
+        if (codeCache != null) {
+            // Auxiliary engine caching: a cache that exists is loaded, otherwise one is stored when
+            // the engine is closed. Runtimes that don't support it reject the options.
+            String option = Files.exists(codeCache) ? "engine.CacheLoad" : "engine.CacheStore";
+            try {
+                return engineBuilder.get()
+                    .allowExperimentalOptions(true)
+                    .option(option, codeCache.toAbsolutePath().toString())
+                    .build();
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Ignoring the Javascript code cache {}, as this GraalVM runtime doesn't support it: {}", codeCache, e.getMessage());
+            }
         }
+        return engineBuilder.get().build();
     }
 
     @Override
@@ -16,8 +16,11 @@
 package io.micronaut.views.react;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.context.BeanProvider;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.ResourceResolver;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
 import io.micronaut.views.ViewsConfiguration;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -26,9 +29,13 @@ import org.graalvm.polyglot.Source;
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.String.format;
@@ -49,17 +56,37 @@ class JSBundlePaths {
     @Nullable
     final Path bundlePath;
 
+    // URL of the manifest of a split server bundle, if there is one.
+    @Nullable
+    final URL manifestURL;
+
+    // If the manifest is a file://, its path. Used for hot reloads.
+    @Nullable
+    final Path manifestPath;
+
+    private final ResourceResolver resolver;
+    private final BeanProvider<JsonMapper> jsonMapper;
+
     @Inject
     JSBundlePaths(
         ViewsConfiguration viewsConfiguration,
         ReactViewsRendererConfiguration reactConfiguration,
-        ResourceResolver resolver
+        ResourceResolver resolver,
+        BeanProvider<JsonMapper> jsonMapper
     ) throws IOException {
-        Optional<URL> bundlePathOpt = resolver.getResource(reactConfiguration.getServerBundlePath());
-        if (bundlePathOpt.isEmpty()) {
-            throw new FileNotFoundException(format("Server bundle %s could not be found. Check your %s property.", reactConfiguration.getServerBundlePath(), ReactViewsRendererConfiguration.PREFIX + ".server-bundle-path"));
+        this(resolver, jsonMapper, find(resolver, reactConfiguration.getServerBundlePath()), findManifest(resolver, reactConfiguration.getServerManifestPath()));
+    }
+
+    private JSBundlePaths(ResourceResolver resolver, BeanProvider<JsonMapper> jsonMapper, URL bundleURL, @Nullable URL manifestURL) {
+        this.resolver = resolver;
+        this.jsonMapper = jsonMapper;
+        this.bundleURL = bundleURL;
+        this.manifestURL = manifestURL;
+        if (manifestURL != null && manifestURL.getProtocol().equals("file")) {
+            manifestPath = Path.of(manifestURL.getPath());
+        } else {
+            manifestPath = null;
         }
-        bundleURL = bundlePathOpt.get();
         bundleFileName = bundleURL.getFile();
         if (bundleURL.getProtocol().equals("file")) {
             bundlePath = Path.of(bundleURL.getPath());
@@ -68,9 +95,60 @@ class JSBundlePaths {
         }
     }
 
-    Source readServerBundle() throws IOException {
-        try (var reader = new BufferedReader(new InputStreamReader(bundleURL.openStream()))) {
-            return Source.newBuilder("js", reader, bundleFileName)
+    /**
+     * @param serverBundlePath A {@code classpath:} or {@code file:} path, like the
+     *                         {@code server-bundle-path} property.
+     * @return The paths of another server bundle.
+     * @throws FileNotFoundException if there is no such bundle.
+     */
+    JSBundlePaths resolve(String serverBundlePath) throws FileNotFoundException {
+        return new JSBundlePaths(resolver, jsonMapper, find(resolver, serverBundlePath), manifestURL);
+    }
+
+    private static URL find(ResourceResolver resolver, String serverBundlePath) throws FileNotFoundException {
+        Optional<URL> bundlePathOpt = resolver.getResource(serverBundlePath);
+        if (bundlePathOpt.isEmpty()) {
+            throw new FileNotFoundException(format("Server bundle %s could not be found. Check your %s property.", serverBundlePath, ReactViewsRendererConfiguration.PREFIX + ".server-bundle-path"));
+        }
+        return bundlePathOpt.get();
+    }
+
+    @Nullable
+    private static URL findManifest(ResourceResolver resolver, @Nullable String serverManifestPath) throws FileNotFoundException {
+        if (serverManifestPath == null) {
+            return null;
+        }
+        return resolver.getResource(serverManifestPath).orElseThrow(() ->
+            new FileNotFoundException(format("Server manifest %s could not be found. Check your %s property.", serverManifestPath, ReactViewsRendererConfiguration.PREFIX + ".server-manifest-path")));
+    }
+
+    /**
+     * @return The server bundle, along with the component modules listed in the manifest, if any.
+     * @throws IOException if the bundle or the manifest can't be read.
+     */
+    JSServerBundle readServerBundle() throws IOException {
+        return new JSServerBundle(readModule(bundleURL), readManifest());
+    }
+
+    private Map<String, URL> readManifest() throws IOException {
+        if (manifestURL == null) {
+            return Map.of();
+        }
+        Map<String, String> manifest;
+        try (InputStream in = manifestURL.openStream()) {
+            manifest = jsonMapper.get().readValue(in, Argument.mapOf(String.class, String.class));
+        }
+        Map<String, URL> componentURLs = new HashMap<>();
+        for (Map.Entry<String, String> entry : manifest.entrySet()) {
+            // Module paths are relative to the manifest, as bundlers write them.
+            componentURLs.put(entry.getKey(), new URL(manifestURL, entry.getValue()));
+        }
+        return componentURLs;
+    }
+
+    static Source readModule(URL url) throws IOException {
+        try (var reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            return Source.newBuilder("js", reader, url.getFile())
                 .mimeType("application/javascript+module")
                 .build();
         }
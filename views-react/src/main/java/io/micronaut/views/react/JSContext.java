@@ -18,17 +18,23 @@ package io.micronaut.views.react;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.annotation.Internal;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -41,20 +47,38 @@ class JSContext implements AutoCloseable {
     // Symbols the user's server side bundle might supply us with.
     private static final List<String> IMPORT_SYMBOLS = List.of("React", "ReactDOMServer", "renderToString", "h");
 
+    private static final int IDLE = 0;
+    private static final int RENDERING = 1;
+    private static final int CANCELLED = 2;
+
     // Accessed from ReactViewsRenderer
     Context polyglotContext;
     Value render;
     Value ssrModule;
+    Value parseJSON;
 
-    // What version of the on-disk bundle (considering file change events) we were loaded from.
+    // The generation of the server bundle (considering reloads) we were loaded from.
     final int versionCounter;
 
+    // Bytes written by the render script are copied out of the guest into this. Like the context
+    // itself, it's only used by one thread at a time.
+    private byte[] outputBuffer = new byte[0];
+
+    // Whether a render is running in this context, and whether one was cancelled, after which the
+    // context can't be used anymore.
+    private final AtomicInteger renderState = new AtomicInteger(IDLE);
+
+    // Components of a split bundle this context has loaded so far.
+    private final Map<String, Value> loadedComponents = new HashMap<>();
+
+    private final JSServerBundle bundle;
     private final CompiledJS compiledJS;
     private final ReactViewsRendererConfiguration configuration;
     private final JSSandboxing sandboxing;
 
     @Inject
-    JSContext(CompiledJS compiledJS, ReactViewsRendererConfiguration configuration, JSSandboxing sandboxing, @Parameter int versionCounter) {
+    JSContext(CompiledJS compiledJS, ReactViewsRendererConfiguration configuration, JSSandboxing sandboxing, @Parameter int versionCounter, @Parameter JSServerBundle bundle) {
+        this.bundle = bundle;
         this.compiledJS = compiledJS;
         this.configuration = configuration;
         this.sandboxing = sandboxing;
@@ -66,7 +90,9 @@ class JSContext implements AutoCloseable {
         polyglotContext = createContext();
 
         Value global = polyglotContext.getBindings("js");
-        ssrModule = polyglotContext.eval(compiledJS.getSource());
+        parseJSON = global.getMember("JSON").getMember("parse");
+        ssrModule = polyglotContext.eval(bundle.source);
+        bundle.recordExports(ssrModule.getMemberKeys());
 
         // Take all the exports from the components bundle, and expose them to the render script.
         for (var name : ssrModule.getMemberKeys()) {
@@ -123,12 +149,12 @@ class JSContext implements AutoCloseable {
     }
 
     private Context createContext() {
-        var contextBuilder = Context.newBuilder()
+        Supplier<Context.Builder> contextBuilder = () -> Context.newBuilder()
             .engine(compiledJS.engine)
             .option("js.esm-eval-returns-exports", "true")
             .option("js.unhandled-rejections", "throw");
         try {
-            return sandboxing.configure(contextBuilder).build();
+            return sandboxing.build(contextBuilder);
         } catch (ExceptionInInitializerError e) {
             // The catch handler is to work around a bug in Polyglot 24.0.0
             if (e.getCause().getMessage().contains("version compatibility check failed")) {
@@ -148,7 +174,86 @@ class JSContext implements AutoCloseable {
 
     boolean moduleHasMember(String memberName) {
         assert !IMPORT_SYMBOLS.contains(memberName) : "Should not query the server-side bundle for member name " + memberName;
-        return ssrModule.hasMember(memberName);
+        return ssrModule.hasMember(memberName) || bundle.hasComponent(memberName);
+    }
+
+    /**
+     * Looks up a component exported by the server bundle or, failing that, listed in its manifest.
+     * The module of a listed component is evaluated the first time this context renders it, and
+     * can use what the server bundle exports as globals, like {@code React}.
+     *
+     * @param name The name of the component.
+     * @return The component, or null if there is no such component.
+     */
+    @Nullable
+    Value component(String name) {
+        Value component = ssrModule.getMember(name);
+        if (component != null || !bundle.hasComponent(name)) {
+            return component;
+        }
+        component = loadedComponents.get(name);
+        if (component == null) {
+            Value module = polyglotContext.eval(bundle.componentSource(name));
+            component = module.hasMember(name) ? module.getMember(name) : module.getMember("default");
+            if (component == null) {
+                throw new IllegalArgumentException("The module of component " + name + " doesn't export it by name or as its default export");
+            }
+            loadedComponents.put(name, component);
+        }
+        return component;
+    }
+
+    /**
+     * Starts a render, with fresh resource limits if there are any.
+     */
+    void beginRender() {
+        renderState.set(RENDERING);
+        if (sandboxing.hasLimits()) {
+            polyglotContext.resetLimits();
+        }
+    }
+
+    /**
+     * Ends a render, unless it was cancelled.
+     */
+    void endRender() {
+        renderState.compareAndSet(RENDERING, IDLE);
+    }
+
+    /**
+     * Cancels the render running in this context, from another thread. Does nothing if the render
+     * already ended.
+     */
+    void cancelRender() {
+        if (renderState.compareAndSet(RENDERING, CANCELLED)) {
+            polyglotContext.close(true);
+        }
+    }
+
+    /**
+     * @param failure Why a render failed.
+     * @return True if it failed because it was cancelled or exceeded its resource limits, in which
+     * case GraalJS closed this context.
+     */
+    boolean exceededLimits(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof PolyglotException e && (e.isCancelled() || e.isResourceExhausted() || e.isInterrupted())) {
+                renderState.set(CANCELLED);
+                break;
+            }
+        }
+        return isCancelled();
+    }
+
+    boolean isCancelled() {
+        return renderState.get() == CANCELLED;
+    }
+
+    byte[] outputBuffer(int length) {
+        if (outputBuffer.length < length) {
+            outputBuffer = new byte[Math.max(length, 2 * outputBuffer.length)];
+        }
+        return outputBuffer;
     }
 
     @PreDestroy
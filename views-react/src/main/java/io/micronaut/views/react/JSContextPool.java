@@ -17,16 +17,33 @@ package io.micronaut.views.react;
 
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.StartupEvent;
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.scheduling.io.watch.event.FileChangedEvent;
 import io.micronaut.scheduling.io.watch.event.WatchEventType;
+import io.micronaut.views.exceptions.ViewRenderingException;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.ref.SoftReference;
-import java.util.LinkedList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Vends contexts to threads that need them. We don't use ThreadLocals here because what matters
@@ -34,57 +51,351 @@ import java.util.LinkedList;
  * we don't want to have 30 contexts in memory at all times because they are quite chunky objects.
  * By only creating more when we are genuinely under load, we avoid bloat. This also fits better
  * with virtual threads, where a thread may not live beyond the lifetime of a single request.
+ * <p>
+ * The pool is bounded: a semaphore hands out one permit per context in use, so at most
+ * {@link ReactViewsRendererConfiguration#getMaxContexts()} contexts ever exist. When they are all
+ * busy, callers wait up to {@link ReactViewsRendererConfiguration#getAcquireTimeout()} for one to
+ * be released. Idle contexts are reused most recently released first, as those are the ones whose
+ * code is still hot. Neither acquiring nor releasing a context takes a lock unless the pool is
+ * exhausted.
+ * <p>
+ * All contexts of a generation evaluate the same server bundle. A reload, when the bundle file
+ * changes or on demand, reads the bundle and builds the contexts of the next generation on a
+ * background thread, then swaps generations at once: requests never wait for a reload, and keep
+ * using the previous generation if the new bundle fails to load. Contexts of the previous
+ * generation are closed as soon as they are idle. New contexts take the place of idle ones, so a
+ * reload doesn't grow the pool past its maximum either: contexts in use while it builds are closed
+ * once released, and replaced when a request next needs one. Only when every context stays in use
+ * for the whole acquire timeout does a reload build one context over the maximum, to check that the
+ * bundle loads.
+ * <p>
+ * Its statistics are exposed as {@link ReactContextPoolMetrics}.
  */
 @Singleton
 @Internal
-class JSContextPool implements ApplicationEventListener<FileChangedEvent> {
+class JSContextPool implements ApplicationEventListener<FileChangedEvent>, ReactContextPoolMetrics {
     private static final Logger LOG = LoggerFactory.getLogger(JSContextPool.class);
     private final ApplicationContext applicationContext;
-    private final JSBundlePaths paths;
+    private final int minContexts;
+    private final int maxContexts;
+    private final Duration acquireTimeout;
 
-    // Synchronized on 'this'.
-    private final LinkedList<SoftReference<JSContext>> contexts = new LinkedList<>();
-    private int versionCounter = 0;   // File reloads.
+    // One permit per context that may be in use.
+    private final Semaphore permits;
+    // Contexts not in use, most recently released first.
+    private final ConcurrentLinkedDeque<JSContext> idle = new ConcurrentLinkedDeque<>();
+    // Reloads build the next generation here, one at a time.
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(runnable -> {
+        var thread = new Thread(runnable, "react-bundle-reload");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Generation generation;
+
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
 
     @Inject
-    JSContextPool(ApplicationContext applicationContext, JSBundlePaths paths) {
+    JSContextPool(ApplicationContext applicationContext, JSBundlePaths paths, ReactViewsRendererConfiguration configuration) throws IOException {
         this.applicationContext = applicationContext;
-        this.paths = paths;
+        this.generation = new Generation(0, paths, paths.readServerBundle());
+        Integer max = configuration.getMaxContexts();
+        this.maxContexts = max != null ? max : Runtime.getRuntime().availableProcessors();
+        this.minContexts = Math.min(configuration.getMinContexts(), maxContexts);
+        this.acquireTimeout = configuration.getAcquireTimeout();
+        this.permits = new Semaphore(maxContexts);
     }
 
     /**
-     * Returns a cached context or creates a new one. You must give the JSContext to
-     * {@link #release(JSContext)} when you're done with it to put it (back) into the pool.
+     * Creates the minimum number of contexts, so the first requests don't pay for it.
      */
-    synchronized JSContext acquire() {
-        while (!contexts.isEmpty()) {
-            SoftReference<JSContext> ref = contexts.poll();
-            assert ref != null;
-
-            var context = ref.get();
-            // context may have been garbage collected (== null), or it might be for an old
-            // version of the on-disk bundle. In both cases we just let it drift away as we
-            // now hold the only reference.
-            if (context != null && context.versionCounter == versionCounter) {
-                return context;
+    @EventListener
+    void onStartup(StartupEvent event) {
+        for (int i = size.get(); i < minContexts; i++) {
+            idle.offerLast(create(generation));
+        }
+        if (minContexts > 0) {
+            LOG.debug("Created {} Javascript contexts at startup", minContexts);
+        }
+    }
+
+    /**
+     * Returns a cached context or creates a new one, waiting for one to be released if the pool is
+     * exhausted. You must give the JSContext to {@link #release(JSContext)} when you're done with it
+     * to put it (back) into the pool.
+     *
+     * @throws ViewRenderingException if no context becomes available within the acquire timeout.
+     */
+    JSContext acquire() {
+        long start = System.nanoTime();
+        if (!permits.tryAcquire()) {
+            awaitPermit();
+        }
+        return take(start);
+    }
+
+    /**
+     * Like {@link #acquire()}, but doesn't wait when the pool is exhausted.
+     *
+     * @return A context, or null if all of them are in use.
+     */
+    @Nullable
+    JSContext tryAcquire() {
+        long start = System.nanoTime();
+        return permits.tryAcquire() ? take(start) : null;
+    }
+
+    private JSContext take(long start) {
+        acquisitions.increment();
+        waitNanos.add(System.nanoTime() - start);
+        try {
+            Generation current = generation;
+            JSContext context;
+            while ((context = idle.pollFirst()) != null) {
+                // The context might be for an old version of the bundle, in which case we
+                // drop it as we now hold the only reference. It might also be for a newer one
+                // swapped in since we looked, which is fine.
+                if (context.versionCounter >= current.version()) {
+                    return context;
+                }
+                discard(context);
             }
+            // No more pooled contexts available, create one and return it. It'll be added [back] to the
+            // pool when release() is called.
+            return create(current);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
         }
+    }
 
-        // No more pooled contexts available, create one and return it. It'll be added [back] to the
-        // pool when release() is called.
-        return applicationContext.createBean(JSContext.class, versionCounter);
+    /**
+     * Answers from the names the server bundle exports, which the first context to evaluate it
+     * recorded, so it doesn't take a context. Only before any context was created does it create
+     * one to evaluate the bundle.
+     *
+     * @param name The name of a component.
+     * @return True if the server bundle exports it or its manifest lists it.
+     */
+    boolean hasComponent(String name) {
+        JSServerBundle bundle = generation.bundle();
+        if (bundle.isEvaluated()) {
+            return bundle.exports(name);
+        }
+        JSContext context = tryAcquire();
+        if (context == null) {
+            context = acquire();
+        }
+        try {
+            return context.moduleHasMember(name);
+        } finally {
+            release(context);
+        }
     }
 
-    synchronized void release(JSContext jsContext) {
-        // Put it back into the pool for reuse.
-        contexts.add(new SoftReference<>(jsContext));
+    void release(JSContext jsContext) {
+        // Put it back into the pool for reuse, unless a render was cancelled in it.
+        if (jsContext.isCancelled()) {
+            recycled.increment();
+            discard(jsContext);
+        } else if (jsContext.versionCounter >= generation.version()) {
+            idle.offerFirst(jsContext);
+        } else {
+            discard(jsContext);
+        }
+        permits.release();
     }
 
     @Override
-    public synchronized void onApplicationEvent(FileChangedEvent event) {
-        if (paths.bundlePath != null && event.getPath().equals(paths.bundlePath) && event.getEventType() != WatchEventType.DELETE) {
+    public void onApplicationEvent(FileChangedEvent event) {
+        Generation current = generation;
+        Path path = event.getPath();
+        boolean ours = path.equals(current.paths().bundlePath)
+            || path.equals(current.paths().manifestPath)
+            || current.bundle().includes(path);
+        if (ours && event.getEventType() != WatchEventType.DELETE) {
             LOG.info("Reloading Javascript bundle due to file change.");
-            versionCounter++;
+            reload(null).whenComplete((ignored, e) -> {
+                if (e != null) {
+                    LOG.error("The changed Javascript bundle failed to load, so the previous one is still in use.", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Loads the server bundle again in the background, and swaps to it once the contexts of the
+     * new generation are built.
+     *
+     * @param serverBundlePath A {@code classpath:} or {@code file:} path to load the bundle from
+     *                         from now on, or null to load it from where it was loaded before.
+     * @return A future completed once the new bundle is in use, or completed exceptionally if
+     * it failed to load, in which case the previous one is still in use.
+     */
+    CompletableFuture<Void> reload(@Nullable String serverBundlePath) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                swap(serverBundlePath);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, reloader);
+    }
+
+    private void swap(@Nullable String serverBundlePath) throws IOException {
+        Generation current = generation;
+        JSBundlePaths paths = serverBundlePath == null ? current.paths() : current.paths().resolve(serverBundlePath);
+        var next = new Generation(current.version() + 1, paths, paths.readServerBundle());
+        // Replace every context, in use or not, and build at least one to check that the bundle loads.
+        // Each replacement is built under a permit, in place of an idle context once the pool is full,
+        // so the pool doesn't grow past its maximum. Contexts still in use when no permit is left are
+        // discarded once released, and replaced when a request next needs one.
+        int count = Math.min(maxContexts, Math.max(1, Math.max(minContexts, size.get())));
+        List<JSContext> replacements = new ArrayList<>(count);
+        int held = 0;
+        try {
+            try {
+                // The first one is built even if no permit was released in time, to check the bundle.
+                if (awaitReloadPermit()) {
+                    held++;
+                }
+                replacements.add(replace(next));
+                while (replacements.size() < count && permits.tryAcquire()) {
+                    held++;
+                    replacements.add(replace(next));
+                }
+            } catch (RuntimeException e) {
+                replacements.forEach(this::discard);
+                throw e;
+            }
+            // Offered before the swap, so that no request finds the pool empty in between. They may
+            // already be taken before the swap, as contexts newer than the current generation are kept.
+            replacements.forEach(idle::offerFirst);
+            generation = next;
+            for (JSContext context : idle) {
+                if (context.versionCounter < next.version() && idle.remove(context)) {
+                    discard(context);
+                }
+            }
+        } finally {
+            permits.release(held);
+        }
+        LOG.info("Javascript bundle {} loaded into {} new contexts", paths.bundleURL, replacements.size());
+    }
+
+    private boolean awaitReloadPermit() {
+        try {
+            return permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private JSContext replace(Generation next) {
+        // Once the pool is full, the least recently used idle context of the previous generation
+        // makes room for its replacement.
+        if (size.get() >= maxContexts) {
+            JSContext spare = idle.pollLast();
+            if (spare != null) {
+                discard(spare);
+            }
+        }
+        return create(next);
+    }
+
+    @Override
+    public int getSize() {
+        return size.get();
+    }
+
+    @Override
+    public int getActive() {
+        return maxContexts - permits.availablePermits();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxContexts;
+    }
+
+    @Override
+    public long getCreated() {
+        return created.sum();
+    }
+
+    @Override
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    @Override
+    public long getWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    @Override
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    @Override
+    public long getRecycled() {
+        return recycled.sum();
+    }
+
+    @Override
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    void recordFallback() {
+        fallbacks.increment();
+    }
+
+    @PreDestroy
+    void close() {
+        reloader.shutdownNow();
+        JSContext context;
+        while ((context = idle.pollFirst()) != null) {
+            discard(context);
+        }
+    }
+
+    private void awaitPermit() {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ViewRenderingException("Interrupted waiting for a Javascript context", e);
+        }
+        if (!acquired) {
+            timeouts.increment();
+            throw new ViewRenderingException("Timed out after %d ms waiting for one of the %d Javascript contexts. Check %s.".formatted(acquireTimeout.toMillis(), maxContexts, ReactViewsRendererConfiguration.PREFIX + ".max-contexts"));
         }
     }
+
+    private JSContext create(Generation generation) {
+        JSContext context = applicationContext.createBean(JSContext.class, generation.version(), generation.bundle());
+        size.incrementAndGet();
+        created.increment();
+        return context;
+    }
+
+    private void discard(JSContext context) {
+        size.decrementAndGet();
+        context.close();
+    }
+
+    /**
+     * The server bundle all contexts of a version evaluate, and the component modules they share.
+     */
+    private record Generation(int version, JSBundlePaths paths, JSServerBundle bundle) {
+    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.react;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cancels renders that run past {@link ReactViewsRendererConfiguration#getRenderTimeout()}, and
+ * streamed renders whose promise doesn't settle within it or, without one, within
+ * {@link ReactViewsRendererConfiguration#getStreamTimeout()}.
+ */
+@Singleton
+@Internal
+class JSRenderWatchdog {
+    private final @Nullable Duration renderTimeout;
+    private final Duration streamTimeout;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    JSRenderWatchdog(ReactViewsRendererConfiguration configuration) {
+        renderTimeout = configuration.getRenderTimeout();
+        streamTimeout = renderTimeout != null ? renderTimeout : configuration.getStreamTimeout();
+        // The thread is only started once something is scheduled.
+        scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            var thread = new Thread(runnable, "react-render-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Most renders end in time, so don't keep their deadlines around until they're due.
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Starts a render in the given context.
+     *
+     * @param context The context the render runs in.
+     * @return The deadline of the render, to give to {@link #end(JSContext, ScheduledFuture)}.
+     */
+    @Nullable
+    ScheduledFuture<?> begin(JSContext context) {
+        context.beginRender();
+        if (renderTimeout == null) {
+            return null;
+        }
+        return scheduler.schedule(context::cancelRender, renderTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Starts a streamed render in the given context. It always has a deadline, as it only ends
+     * once the promise returned by the render script settles, which it may never do.
+     *
+     * @param context   The context the render runs in.
+     * @param onTimeout Cancels the render.
+     * @return The deadline of the render, to give to {@link #end(JSContext, ScheduledFuture)}.
+     */
+    ScheduledFuture<?> beginStream(JSContext context, Runnable onTimeout) {
+        context.beginRender();
+        return scheduler.schedule(onTimeout, streamTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs a task on the watchdog thread, for example to cancel a render from outside the thread
+     * that may be running it.
+     *
+     * @param task The task.
+     */
+    void execute(Runnable task) {
+        scheduler.execute(task);
+    }
+
+    /**
+     * Ends a render started with {@link #begin(JSContext)}.
+     *
+     * @param context  The context the render ran in.
+     * @param deadline The deadline of the render.
+     */
+    void end(JSContext context, @Nullable ScheduledFuture<?> deadline) {
+        context.endRender();
+        if (deadline != null) {
+            deadline.cancel(false);
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        scheduler.shutdownNow();
+    }
+}
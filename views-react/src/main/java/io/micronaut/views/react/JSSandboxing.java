@@ -16,6 +16,7 @@
 package io.micronaut.views.react;
 
 import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Singleton;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Engine;
@@ -24,6 +25,9 @@ import org.graalvm.polyglot.SandboxPolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.function.Supplier;
+
 /**
  * Some internal wrappers useful for centralizing sandbox configuration.
  */
@@ -33,9 +37,16 @@ class JSSandboxing {
     private static final Logger LOG = LoggerFactory.getLogger(JSSandboxing.class);
     private final boolean sandbox;
     private final HostAccess hostAccess;
+    private final @Nullable Duration maxCpuTime;
+    private final @Nullable String maxHeapMemory;
+    // Cleared once a context build shows this runtime doesn't support resource limits.
+    private volatile boolean limits;
 
     JSSandboxing(ReactViewsRendererConfiguration configuration, HostAccess hostAccess) {
         sandbox = configuration.getSandbox();
+        maxCpuTime = configuration.getMaxCpuTime();
+        maxHeapMemory = configuration.getMaxHeapMemory();
+        limits = maxCpuTime != null || maxHeapMemory != null;
         if (LOG.isDebugEnabled()) {
             LOG.debug("ReactJS sandboxing {}", sandbox ? "enabled" : "disabled");
         } 
@@ -46,7 +57,45 @@ class JSSandboxing {
         return engineBuilder.sandbox(sandbox ? SandboxPolicy.CONSTRAINED : SandboxPolicy.TRUSTED);
     }
 
-    Context.Builder configure(Context.Builder builder) {
+    /**
+     * @return Whether contexts are built with resource limits, which then have to be reset before
+     * each render.
+     */
+    boolean hasLimits() {
+        return limits;
+    }
+
+    /**
+     * Builds a context with the sandbox configuration. Runtimes that don't support resource limits,
+     * such as GraalJS community edition, reject the options, in which case a warning is logged
+     * once and contexts are built without limits from then on.
+     *
+     * @param builder Supplies a new builder, as options can't be taken back once set.
+     * @return The context.
+     */
+    Context build(Supplier<Context.Builder> builder) {
+        if (limits) {
+            try {
+                return configure(builder.get(), true).build();
+            } catch (IllegalArgumentException e) {
+                // Building without limits below rethrows anything that has nothing to do with them.
+                Context context = configure(builder.get(), false).build();
+                limits = false;
+                LOG.warn("Ignoring max-cpu-time and max-heap-memory, as this GraalVM runtime doesn't support sandbox resource limits: {}", e.getMessage());
+                return context;
+            }
+        }
+        return configure(builder.get(), false).build();
+    }
+
+    private Context.Builder configure(Context.Builder builder, boolean limits) {
+        // Resource limits are reset before each render, which makes the CPU time limit per render.
+        if (limits && maxCpuTime != null) {
+            builder.option("sandbox.MaxCPUTime", maxCpuTime.toMillis() + "ms");
+        }
+        if (limits && maxHeapMemory != null) {
+            builder.option("sandbox.MaxHeapMemory", maxHeapMemory);
+        }
         if (sandbox) {
             return builder.sandbox(SandboxPolicy.CONSTRAINED).allowHostAccess(hostAccess);
         } else {
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.react;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.annotation.Nullable;
+import org.graalvm.polyglot.Source;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The server bundle every context of a generation evaluates, and the modules of the components
+ * listed in the manifest of a split bundle. Component modules are read on first use, once for
+ * all contexts: sharing a {@link Source} lets the engine parse and compile it only once.
+ */
+@Internal
+final class JSServerBundle {
+    final Source source;
+    private final Map<String, URL> componentURLs;
+    private final Map<String, Source> componentSources = new ConcurrentHashMap<>();
+    // What the server bundle exports, recorded by the first context that evaluates it.
+    @Nullable
+    private volatile Set<String> exports;
+
+    JSServerBundle(Source source, Map<String, URL> componentURLs) {
+        this.source = source;
+        this.componentURLs = componentURLs;
+    }
+
+    boolean hasComponent(String name) {
+        return componentURLs.containsKey(name);
+    }
+
+    void recordExports(Set<String> names) {
+        if (exports == null) {
+            exports = Set.copyOf(names);
+        }
+    }
+
+    /**
+     * @return True once a context has evaluated the bundle, so {@link #exports(String)} can answer.
+     */
+    boolean isEvaluated() {
+        return exports != null;
+    }
+
+    /**
+     * @param name The name of a component.
+     * @return True if the bundle exports it or the manifest lists it.
+     */
+    boolean exports(String name) {
+        Set<String> names = exports;
+        return (names != null && names.contains(name)) || hasComponent(name);
+    }
+
+    /**
+     * @param name The name of a component.
+     * @return The source of the module the manifest lists for it, or null if it isn't listed.
+     */
+    @Nullable
+    Source componentSource(String name) {
+        Source source = componentSources.get(name);
+        if (source != null) {
+            return source;
+        }
+        URL url = componentURLs.get(name);
+        if (url == null) {
+            return null;
+        }
+        return componentSources.computeIfAbsent(name, n -> {
+            try {
+                return JSBundlePaths.readModule(url);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * @param path A file that changed.
+     * @return True if it's the module of one of the components.
+     */
+    boolean includes(Path path) {
+        for (URL url : componentURLs.values()) {
+            try {
+                if (url.getProtocol().equals("file") && Path.of(url.toURI()).equals(path)) {
+                    return true;
+                }
+            } catch (URISyntaxException e) {
+                // Not a path we could be watching.
+            }
+        }
+        return false;
+    }
+}
@@ -21,6 +21,7 @@ import io.micronaut.core.beans.BeanIntrospection;
 import io.micronaut.core.beans.BeanIntrospector;
 import io.micronaut.core.beans.BeanMap;
 import io.micronaut.core.beans.BeanMethod;
+import io.micronaut.core.beans.BeanProperty;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Value;
 import org.graalvm.polyglot.proxy.ProxyArray;
@@ -28,28 +29,40 @@ import org.graalvm.polyglot.proxy.ProxyExecutable;
 import org.graalvm.polyglot.proxy.ProxyObject;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A proxy object similar to that returned by {@link ProxyObject#fromMap(Map)}, but with support
  * for Micronaut's bean introspection system (a form of compile-time reflection code generation).
  * Reading a key whose value is an introspectable bean will use the {@link BeanMap} instead of
  * the regular polyglot mapping.
+ * <p>
+ * The members of an introspectable class are looked up once and cached, so reading a property is
+ * an index lookup followed by a call to the generated accessor. Maps and collections are not
+ * copied: they are exposed through read-only views which wrap their values as they are read, so
+ * only the parts of the props a component actually reads are ever wrapped.
  */
 @Internal
 final class ProxyObjectWithIntrospectableSupport implements ProxyObject {
+    private static final Map<Class<?>, Members> MEMBERS = new ConcurrentHashMap<>();
+
     private final Context context;
     private final Object target;
+    private final Members members;
 
-    @Nullable
-    private final BeanIntrospection<?> introspection;
-
-    private ProxyObjectWithIntrospectableSupport(Context context, Object target, BeanIntrospection<?> introspection) {
+    private ProxyObjectWithIntrospectableSupport(Context context, Object target, Members members) {
         this.context = context;
         this.target = target;
-        this.introspection = introspection;
+        this.members = members;
     }
 
     /**
@@ -58,21 +71,21 @@ final class ProxyObjectWithIntrospectableSupport implements ProxyObject {
     static Value wrap(Context context, Object object) {
         if (object == null) {
             return context.asValue(null);
-        } else  if (object instanceof Map<?, ?> map) {
-            // We need to recursively map the values.
-            var result = new HashMap<String, Object>();
-            map.forEach((key, value) -> result.put(key.toString(), wrap(context, value)));
-            return context.asValue(ProxyObject.fromMap(result));
+        } else if (object instanceof Value value) {
+            return value;
+        } else if (object instanceof Map<?, ?> map) {
+            // Values are wrapped recursively as they are read.
+            return context.asValue(new MapProxy(context, map));
         } else if (object instanceof Collection<?> collection) {
-            // We need to recursively map the items. This could be lazy.
-            return context.asValue(collection.stream().map(it -> wrap(context, it)).toList());
-        } else if (object instanceof String) {
+            // Items are wrapped recursively as they are read.
+            return context.asValue(new CollectionProxy(context, collection));
+        } else if (object instanceof String || object instanceof Number || object instanceof Boolean || object instanceof Character) {
             // We could ignore this case because we'd fall through the BeanIntrospector check, but that logs some debug spam and it's slower to look up objects we know we won't wrap anyway.
             return context.asValue(object);
         } else {
-            var introspection = BeanIntrospector.SHARED.findIntrospection(object.getClass()).orElse(null);
-            if (introspection != null) {
-                return context.asValue(new ProxyObjectWithIntrospectableSupport(context, object, introspection));
+            Members members = members(object.getClass());
+            if (members != Members.NONE) {
+                return context.asValue(new ProxyObjectWithIntrospectableSupport(context, object, members));
             } else {
                 return context.asValue(object);
             }
@@ -81,22 +94,19 @@ final class ProxyObjectWithIntrospectableSupport implements ProxyObject {
 
     @Override
     public Object getMember(String key) {
-        Map<String, Object> map = asMap();
-
         // Is it a property?
-        Object result = map.get(key);
-        if (result != null) {
-            return wrap(context, result);
+        BeanProperty<Object, Object> property = members.property(key);
+        if (property != null) {
+            Object result = property.get(target);
+            if (result != null) {
+                return wrap(context, result);
+            }
         }
 
         // Can it be an @Executable method?
-        if (introspection != null) {
-            Collection<? extends BeanMethod<?, Object>> beanMethods = introspection.getBeanMethods();
-            for (BeanMethod<?, Object> method : beanMethods) {
-                if (method.getName().equals(key)) {
-                    return new PolyglotBeanMethod(beanMethods);
-                }
-            }
+        BeanMethod<Object, Object>[] methods = members.methods.get(key);
+        if (methods != null) {
+            return new PolyglotBeanMethod(methods);
         }
 
         // Not found.
@@ -105,20 +115,12 @@ final class ProxyObjectWithIntrospectableSupport implements ProxyObject {
 
     @Override
     public Object getMemberKeys() {
-        return ProxyArray.fromList(getInvokableNames());
+        return ProxyArray.fromList(members.keys);
     }
 
     @Override
     public boolean hasMember(String key) {
-        return getInvokableNames().contains(key);
-    }
-
-    private ArrayList<Object> getInvokableNames() {
-        ArrayList<Object> propNames = new ArrayList<>(asMap().keySet());
-        if (introspection != null) {
-            introspection.getBeanMethods().forEach(it -> propNames.add(it.getName()));
-        }
-        return propNames;
+        return members.property(key) != null || members.methods.containsKey(key);
     }
 
     @Override
@@ -126,21 +128,188 @@ final class ProxyObjectWithIntrospectableSupport implements ProxyObject {
         throw new UnsupportedOperationException();
     }
 
-    private Map<String, Object> asMap() {
-        return BeanMap.of(target);
-    }
-
     @Override
     public String toString() {
         return target.toString();
     }
 
+    private static Members members(Class<?> type) {
+        Members members = MEMBERS.get(type);
+        if (members == null) {
+            members = MEMBERS.computeIfAbsent(type, t -> BeanIntrospector.SHARED.findIntrospection(t).map(Members::new).orElse(Members.NONE));
+        }
+        return members;
+    }
+
+    /**
+     * The readable properties and executable methods of an introspected class.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final class Members {
+        static final Members NONE = new Members();
+
+        private final BeanIntrospection<Object> introspection;
+        // Indexed like the introspection's properties, null if the property is not readable.
+        private final BeanProperty<Object, Object>[] properties;
+        // The overloads of each method, by name.
+        private final Map<String, BeanMethod<Object, Object>[]> methods;
+        private final List<Object> keys;
+
+        private Members() {
+            introspection = null;
+            properties = new BeanProperty[0];
+            methods = Map.of();
+            keys = List.of();
+        }
+
+        private Members(BeanIntrospection<?> introspection) {
+            this.introspection = (BeanIntrospection<Object>) introspection;
+            Set<Object> names = new LinkedHashSet<>();
+            Collection<BeanProperty<Object, Object>> beanProperties = this.introspection.getBeanProperties();
+            properties = new BeanProperty[beanProperties.size()];
+            for (BeanProperty<Object, Object> property : beanProperties) {
+                if (!property.isWriteOnly()) {
+                    properties[this.introspection.propertyIndexOf(property.getName())] = property;
+                    names.add(property.getName());
+                }
+            }
+            Map<String, List<BeanMethod<Object, Object>>> overloads = new LinkedHashMap<>();
+            for (BeanMethod<Object, Object> method : this.introspection.getBeanMethods()) {
+                overloads.computeIfAbsent(method.getName(), n -> new ArrayList<>()).add(method);
+                names.add(method.getName());
+            }
+            Map<String, BeanMethod<Object, Object>[]> byName = new HashMap<>();
+            overloads.forEach((name, candidates) -> byName.put(name, candidates.toArray(new BeanMethod[0])));
+            methods = byName;
+            keys = List.copyOf(names);
+        }
+
+        @Nullable
+        BeanProperty<Object, Object> property(String name) {
+            if (introspection == null) {
+                return null;
+            }
+            int index = introspection.propertyIndexOf(name);
+            return index == -1 ? null : properties[index];
+        }
+    }
+
+    /**
+     * A read-only view of a map, keyed by the string form of its keys.
+     */
+    private static final class MapProxy implements ProxyObject {
+        private final Context context;
+        private final Map<?, ?> map;
+        // Set on first miss if some keys are not strings, looked up by their string form.
+        @Nullable
+        private Map<String, Object> byString;
+        private boolean stringKeys;
+
+        private MapProxy(Context context, Map<?, ?> map) {
+            this.context = context;
+            this.map = map;
+        }
+
+        @Override
+        public Object getMember(String key) {
+            Object value = lookup(key);
+            if (value == null && !stringKeys) {
+                value = byString().get(key);
+            }
+            return wrap(context, value);
+        }
+
+        @Override
+        public Object getMemberKeys() {
+            Object[] keys = new Object[map.size()];
+            int i = 0;
+            for (Object key : map.keySet()) {
+                keys[i++] = String.valueOf(key);
+            }
+            return ProxyArray.fromArray(keys);
+        }
+
+        @Override
+        public boolean hasMember(String key) {
+            if (lookup(key) != null || containsKey(key)) {
+                return true;
+            }
+            return !stringKeys && byString().containsKey(key);
+        }
+
+        @Override
+        public void putMember(String key, Value value) {
+            throw new UnsupportedOperationException();
+        }
+
+        private Object lookup(String key) {
+            try {
+                return map.get(key);
+            } catch (ClassCastException | NullPointerException e) {
+                // A map which can't hold string keys, e.g. a TreeMap of numbers.
+                return null;
+            }
+        }
+
+        private boolean containsKey(String key) {
+            try {
+                return map.containsKey(key);
+            } catch (ClassCastException | NullPointerException e) {
+                return false;
+            }
+        }
+
+        private Map<String, Object> byString() {
+            if (byString == null) {
+                stringKeys = map.keySet().stream().allMatch(String.class::isInstance);
+                if (stringKeys) {
+                    byString = Map.of();
+                } else {
+                    byString = new HashMap<>(map.size());
+                    map.forEach((key, value) -> byString.put(String.valueOf(key), value));
+                }
+            }
+            return byString;
+        }
+    }
+
+    /**
+     * A read-only view of a collection as an array.
+     */
+    private static final class CollectionProxy implements ProxyArray {
+        private final Context context;
+        private final List<?> items;
+
+        private CollectionProxy(Context context, Collection<?> collection) {
+            this.context = context;
+            this.items = collection instanceof List<?> list && list instanceof RandomAccess ? list : Arrays.asList(collection.toArray());
+        }
+
+        @Override
+        public Object get(long index) {
+            if (index < 0 || index >= items.size()) {
+                throw new ArrayIndexOutOfBoundsException("Index " + index + " out of bounds for length " + items.size());
+            }
+            return wrap(context, items.get((int) index));
+        }
+
+        @Override
+        public void set(long index, Value value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getSize() {
+            return items.size();
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     private final class PolyglotBeanMethod implements ProxyExecutable {
-        private final Collection<? extends BeanMethod<?, Object>> candidates;
+        private final BeanMethod<Object, Object>[] candidates;
 
-        private PolyglotBeanMethod(Collection<? extends BeanMethod<?, Object>> candidates) {
-            assert !candidates.isEmpty();
+        private PolyglotBeanMethod(BeanMethod<Object, Object>[] candidates) {
+            assert candidates.length > 0;
             this.candidates = candidates;
         }
 
@@ -164,7 +333,7 @@ final class ProxyObjectWithIntrospectableSupport implements ProxyObject {
                     return candidate;
                 }
             }
-            throw new UnsupportedOperationException(String.format("No candidates found with the right number of arguments for method %s, needed at least %d but got %d", candidates.iterator().next().getName(), minNeeded, arguments.length));
+            throw new UnsupportedOperationException(String.format("No candidates found with the right number of arguments for method %s, needed at least %d but got %d", candidates[0].getName(), minNeeded, arguments.length));
         }
     }
 }
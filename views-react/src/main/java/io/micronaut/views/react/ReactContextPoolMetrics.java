@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.react;
+
+/**
+ * Statistics of the pool of Javascript contexts React views are rendered with, for metrics.
+ *
+ * @since 5.6.0
+ */
+public interface ReactContextPoolMetrics {
+
+    /**
+     * @return The number of contexts, idle or in use.
+     */
+    int getSize();
+
+    /**
+     * @return The number of contexts in use.
+     */
+    int getActive();
+
+    /**
+     * @return The maximum number of contexts.
+     */
+    int getMaxSize();
+
+    /**
+     * @return The number of contexts created so far.
+     */
+    long getCreated();
+
+    /**
+     * @return The number of contexts acquired so far.
+     */
+    long getAcquisitions();
+
+    /**
+     * @return The total time spent waiting for a context, in nanoseconds.
+     */
+    long getWaitNanos();
+
+    /**
+     * @return The number of times no context became available within the acquire timeout.
+     */
+    long getTimeouts();
+
+    /**
+     * @return The number of contexts closed because a render running in them was cancelled or
+     * exceeded its resource limits.
+     */
+    long getRecycled();
+
+    /**
+     * @return The number of renders replaced by client side rendering.
+     */
+    long getFallbacks();
+}
@@ -15,20 +15,42 @@
  */
 package io.micronaut.views.react;
 
+import io.micronaut.context.BeanProvider;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.io.Writable;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.exceptions.MessageBodyException;
+import io.micronaut.json.JsonMapper;
 import io.micronaut.views.ViewsRenderer;
+import io.micronaut.views.exceptions.ViewRenderingException;
+import io.micronaut.views.streaming.StreamingWritable;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyExecutable;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>Instantiates GraalJS and uses it to render React components server side. See the user guide
@@ -38,12 +60,26 @@ import java.nio.charset.StandardCharsets;
  */
 @Singleton
 public class ReactViewsRenderer<PROPS> implements ViewsRenderer<PROPS, HttpRequest<?>> {
+    private static final Logger LOG = LoggerFactory.getLogger(ReactViewsRenderer.class);
+
+    // Warm-up renders are timed in windows of this many renders.
+    private static final int WARMUP_WINDOW = 20;
+
     @Inject
     ReactViewsRendererConfiguration reactConfiguration;
 
     @Inject
     JSContextPool contextPool;
 
+    @Inject
+    BeanProvider<JsonMapper> jsonMapper;
+
+    @Inject
+    ReactWarmupConfiguration warmupConfiguration;
+
+    @Inject
+    JSRenderWatchdog watchdog;
+
     /**
      * Construct this renderer. Don't call it yourself, as Micronaut Views will set it up for you.
      */
@@ -62,42 +98,508 @@ public class ReactViewsRenderer<PROPS> implements ViewsRenderer<PROPS, HttpReque
      */
     @Override
     public @NonNull Writable render(@NonNull String viewName, @Nullable PROPS props, @Nullable HttpRequest<?> request) {
-        return writer -> {
+        return new ReactWritable(viewName, props, request);
+    }
+
+    @Override
+    public boolean exists(@NonNull String viewName) {
+        return contextPool.hasComponent(viewName);
+    }
+
+    /**
+     * Loads the server bundle again, for example after a deployment replaced it. The bundle is read
+     * and the new Javascript contexts are built in the background, then rendering swaps to them at
+     * once, so requests never wait for a reload. Changes to a {@code file:} bundle are picked up
+     * this way automatically.
+     *
+     * @param serverBundlePath A {@code classpath:} or {@code file:} path to load the bundle from from
+     *                         now on, or null to load it from where it was loaded before.
+     * @return A future completed once the new bundle is in use, or completed exceptionally if it
+     * failed to load, in which case the previous one stays in use.
+     * @since 5.6.0
+     */
+    public @NonNull CompletableFuture<Void> reloadServerBundle(@Nullable String serverBundlePath) {
+        return contextPool.reload(serverBundlePath);
+    }
+
+    /**
+     * Renders the component with its sample props from {@link ReactWarmupConfiguration} until
+     * rendering stops getting faster because GraalJS has compiled what it renders, or the maximum
+     * number of renders or the timeout is reached. Compiled code is shared by all contexts through
+     * their engine, so one context is enough, and it is handed back to the pool after every window
+     * of renders. The warm-up is skipped if no context becomes available, and stops once requests
+     * keep every context busy.
+     *
+     * @param viewName The function or class name of the React component to warm up.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void prepare(@NonNull String viewName) {
+        PROPS props = (PROPS) warmupConfiguration.getProps().get(viewName);
+        JSContext context;
+        try {
+            context = contextPool.acquire();
+        } catch (ViewRenderingException e) {
+            LOG.warn("Skipped warming up React view {}: {}", viewName, e.getMessage());
+            return;
+        }
+        long deadline = System.nanoTime() + warmupConfiguration.getTimeout().toNanos();
+        long previousWindow = Long.MAX_VALUE;
+        long window = 0;
+        int rounds = 0;
+        try {
+            while (rounds < warmupConfiguration.getMaxRenders() && System.nanoTime() < deadline) {
+                long start = System.nanoTime();
+                ScheduledFuture<?> renderDeadline = watchdog.begin(context);
+                try {
+                    render(viewName, props, new StreamOutput(OutputStream.nullOutputStream(), StandardCharsets.UTF_8, context), context, null);
+                } finally {
+                    watchdog.end(context, renderDeadline);
+                }
+                window += System.nanoTime() - start;
+                if (++rounds % WARMUP_WINDOW == 0) {
+                    // Settled once a window is no more than 5% faster than the one before it.
+                    if (window * 20 >= previousWindow * 19) {
+                        break;
+                    }
+                    previousWindow = window;
+                    window = 0;
+                    // Let requests have the context between windows, rather than keep them waiting.
+                    contextPool.release(context);
+                    context = contextPool.tryAcquire();
+                    if (context == null) {
+                        LOG.debug("Stopped warming up React view {} as every Javascript context is busy", viewName);
+                        break;
+                    }
+                }
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Warmed up React view {} with {} renders", viewName, rounds);
+            }
+        } finally {
+            if (context != null) {
+                contextPool.release(context);
+            }
+        }
+    }
+
+    private Value render(String componentName, PROPS props, RenderOutput output, JSContext context, @Nullable HttpRequest<?> request) {
+        Value component = context.component(componentName);
+        if (component == null) {
+            throw new IllegalArgumentException("Component name %s wasn't exported from the SSR module or listed in its manifest.".formatted(componentName));
+        }
+
+        RenderCallback renderCallback;
+        Value guestProps;
+        if (reactConfiguration.getSerializeProps()) {
+            // Serialize once on the host: the guest parses the JSON into a plain object for rendering,
+            // and the render script embeds the very same string in the hydration payload.
+            String propsJSON = serializeProps(props, request);
+            renderCallback = new RenderCallback(output, request, propsJSON);
+            guestProps = context.parseJSON.execute(propsJSON);
+        } else {
+            renderCallback = new RenderCallback(output, request, null);
+            // We wrap the props object so we can use Micronaut's compile-time reflection implementation.
+            // This should be more native-image friendly (no need to write reflection config files), and
+            // might also be faster.
+            guestProps = ProxyObjectWithIntrospectableSupport.wrap(context.polyglotContext, props);
+        }
+        return context.render.execute(component, guestProps, renderCallback, reactConfiguration.getClientBundleURL(), request);
+    }
+
+    private String serializeProps(@Nullable PROPS props, @Nullable HttpRequest<?> request) {
+        JsonMapper mapper = jsonMapper.get();
+        try {
+            String json = mapper.writeValueAsString(props == null ? Map.of() : props);
+            if (request == null || !json.endsWith("}")) {
+                return json;
+            }
+            // Append the URL the same way the render scripts spread it into the props, without
+            // going through a tree. A later duplicate key wins in JSON.parse, as it does in a spread.
+            String url = mapper.writeValueAsString(request.getUri().toString());
+            return json.substring(0, json.length() - 1) + (json.length() > 2 ? "," : "") + "\"url\":" + url + "}";
+        } catch (IOException e) {
+            throw new ViewRenderingException("Unable to serialize the props of a React view to JSON. Make sure they are serializable, or disable micronaut.views.react.serialize-props", e);
+        }
+    }
+
+    /**
+     * @return A page that only loads the client bundle, with the bootstrap data the render scripts
+     * would have written, so that the component renders in the browser.
+     */
+    private String clientSideOnly(String viewName, @Nullable PROPS props, @Nullable HttpRequest<?> request) {
+        String component;
+        try {
+            component = jsonMapper.get().writeValueAsString(viewName);
+        } catch (IOException e) {
+            throw new ViewRenderingException("Unable to serialize the name of component " + viewName, e);
+        }
+        // The props end up in a script element, which mustn't be closed by a string inside them.
+        String boot = ("{\"rootProps\":" + serializeProps(props, request) + ",\"rootComponent\":" + component + "}").replace("</", "<\\/");
+        return "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"/></head><body>"
+            + "<script type=\"text/javascript\">var Micronaut = " + boot + ";</script>"
+            + "<script type=\"text/javascript\" src=\"" + reactConfiguration.getClientBundleURL() + "\" async=\"true\"></script>"
+            + "</body></html>";
+    }
+
+    /**
+     * The rendered component. Written out, it renders on the calling thread. Streamed, every chunk
+     * the render script writes is emitted as soon as it is written, so the shell goes out before
+     * the rest of the page, and the context goes back to the pool once the promise returned by the
+     * render script settles.
+     */
+    private final class ReactWritable implements StreamingWritable {
+        private final String viewName;
+        private final @Nullable PROPS props;
+        private final @Nullable HttpRequest<?> request;
+
+        private ReactWritable(String viewName, @Nullable PROPS props, @Nullable HttpRequest<?> request) {
+            this.viewName = viewName;
+            this.props = props;
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(Writer writer) throws IOException {
+            JSContext context = contextPool.acquire();
+            if (!reactConfiguration.getClientSideFallback()) {
+                renderTo(context, new WriterOutput(writer, context));
+                return;
+            }
+            // Nothing may be written until we know whether the fallback replaces the render.
+            var buffer = new StringWriter();
+            writer.write(renderTo(context, new WriterOutput(buffer, context)) ? buffer.toString() : clientSideOnly());
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream, @Nullable Charset charset) throws IOException {
+            Charset cs = charset == null ? StandardCharsets.UTF_8 : charset;
             JSContext context = contextPool.acquire();
+            if (!reactConfiguration.getClientSideFallback()) {
+                renderTo(context, new StreamOutput(outputStream, cs, context));
+                return;
+            }
+            var buffer = new ByteArrayOutputStream();
+            if (renderTo(context, new StreamOutput(buffer, cs, context))) {
+                buffer.writeTo(outputStream);
+            } else {
+                outputStream.write(clientSideOnly().getBytes(cs));
+            }
+        }
+
+        /**
+         * @return False if the render exceeded its limits and is to be replaced by client side rendering.
+         */
+        private boolean renderTo(JSContext context, RenderOutput output) {
+            ScheduledFuture<?> deadline = watchdog.begin(context);
             try {
-                render(viewName, props, writer, context, request);
+                render(viewName, props, output, context, request);
+                return true;
             } catch (Exception e) {
+                if (context.exceededLimits(e) && reactConfiguration.getClientSideFallback()) {
+                    LOG.warn("Rendering component {} exceeded its limits, falling back to client side rendering", viewName, e);
+                    contextPool.recordFallback();
+                    return false;
+                }
                 // If we don't wrap and rethrow, the exception is swallowed and the request hangs.
                 throw new MessageBodyException("Could not render component " + viewName, e);
             } finally {
+                watchdog.end(context, deadline);
                 contextPool.release(context);
             }
-        };
+        }
+
+        private String clientSideOnly() {
+            return ReactViewsRenderer.this.clientSideOnly(viewName, props, request);
+        }
+
+        @Override
+        public @NonNull Publisher<byte[]> stream(@NonNull Charset charset) {
+            return Flux.create(sink -> {
+                JSContext context = contextPool.acquire();
+                var settlement = new Settlement();
+                // Cancelling closes the context, which mustn't happen on a thread that may be inside it.
+                var output = new ChunkOutput(sink, charset, reactConfiguration.getStreamBufferSize(), () -> watchdog.execute(() ->
+                    settlement.cancel(context, new MessageBodyException("Stopped rendering component %s as the client reads too slowly".formatted(viewName)))));
+                sink.onCancel(() -> {
+                    output.cancel();
+                    watchdog.execute(() -> settlement.cancel(context, new MessageBodyException("Rendering component %s was cancelled".formatted(viewName))));
+                });
+                ScheduledFuture<?> deadline = watchdog.beginStream(context, () ->
+                    settlement.cancel(context, new MessageBodyException("Rendering component %s timed out".formatted(viewName))));
+                try {
+                    Value result = render(viewName, props, output, context, request);
+                    if (result.canInvokeMember("then")) {
+                        result.invokeMember("then", (ProxyExecutable) args -> settlement.settle(null), (ProxyExecutable) args ->
+                            settlement.settle(new MessageBodyException("Could not render component %s: %s".formatted(viewName, args.length > 0 ? args[0] : null))));
+                    } else {
+                        settlement.settle(null);
+                    }
+                } catch (Exception e) {
+                    settlement.settle(new MessageBodyException("Could not render component " + viewName, e));
+                }
+                // Contexts may only be entered by one thread at a time, so a promise which settled
+                // while we were still inside the context releases it only now that we have left.
+                settlement.returned(() -> {
+                    settlement.release();
+                    watchdog.end(context, deadline);
+                    Throwable error = settlement.error;
+                    // Once chunks went out, the response can't be replaced by the fallback anymore.
+                    boolean fallback = error != null && context.exceededLimits(error)
+                        && reactConfiguration.getClientSideFallback() && !output.written && !output.cancelled;
+                    contextPool.release(context);
+                    if (error == null) {
+                        output.finish(null, null);
+                    } else if (fallback) {
+                        LOG.warn("Rendering component {} exceeded its limits, falling back to client side rendering", viewName, error);
+                        contextPool.recordFallback();
+                        output.finish(clientSideOnly().getBytes(charset), null);
+                    } else {
+                        output.finish(null, error);
+                    }
+                });
+            });
+        }
     }
 
-    @Override
-    public boolean exists(@NonNull String viewName) {
-        var context = contextPool.acquire();
-        try {
-            return context.moduleHasMember(viewName);
-        } finally {
-            contextPool.release(context);
+    /**
+     * Completes the stream of a render once the render script's promise settled and the call into
+     * the context returned, whichever comes last. A render cancelled before that, as it timed out or
+     * the client went away or reads too slowly, has its context closed and settles with an error.
+     */
+    private static final class Settlement {
+        private final AtomicInteger pending = new AtomicInteger(2);
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private volatile @Nullable Throwable error;
+        private volatile Runnable onComplete;
+        // Guarded by this, as a released context may already be rendering another view.
+        private boolean released;
+
+        Object settle(@Nullable Throwable error) {
+            if (!settled.compareAndSet(false, true)) {
+                return null;
+            }
+            this.error = error;
+            if (pending.decrementAndGet() == 0) {
+                onComplete.run();
+            }
+            return null;
+        }
+
+        void returned(Runnable onComplete) {
+            this.onComplete = onComplete;
+            if (pending.decrementAndGet() == 0) {
+                onComplete.run();
+            }
+        }
+
+        /**
+         * Cancels the render, unless its context is being released already, and settles it.
+         */
+        void cancel(JSContext context, Throwable error) {
+            synchronized (this) {
+                if (!released) {
+                    context.cancelRender();
+                }
+            }
+            settle(error);
+        }
+
+        synchronized void release() {
+            released = true;
         }
     }
 
-    private void render(String componentName, PROPS props, Writer writer, JSContext context, @Nullable HttpRequest<?> request) {
-        Value component = context.ssrModule.getMember(componentName);
-        if (component == null) {
-            throw new IllegalArgumentException("Component name %s wasn't exported from the SSR module.".formatted(componentName));
+    /**
+     * Where a render goes. Strings are written as they are, and bytes are the UTF-8 encoded chunks
+     * React produces, copied out of the guest into {@link #buffer(int)}.
+     */
+    private abstract static class RenderOutput {
+        abstract void write(String html) throws IOException;
+
+        abstract void write(byte[] utf8, int length) throws IOException;
+
+        /**
+         * @param length The number of bytes about to be copied out of the guest.
+         * @return An array of at least that length, which the next {@link #write(byte[], int)} receives.
+         */
+        abstract byte[] buffer(int length);
+    }
+
+    /**
+     * Writes to a {@link Writer}, which can only take characters, so bytes have to be decoded.
+     */
+    private static final class WriterOutput extends RenderOutput {
+        private final Writer writer;
+        private final JSContext context;
+
+        WriterOutput(Writer writer, JSContext context) {
+            this.writer = writer;
+            this.context = context;
+        }
+
+        @Override
+        void write(String html) throws IOException {
+            writer.write(html);
+        }
+
+        @Override
+        void write(byte[] utf8, int length) throws IOException {
+            writer.write(new String(utf8, 0, length, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        byte[] buffer(int length) {
+            return context.outputBuffer(length);
+        }
+    }
+
+    /**
+     * Writes to the response stream. In UTF-8, which is what React produces, bytes go through
+     * as they are, without being decoded and encoded again.
+     */
+    private static final class StreamOutput extends RenderOutput {
+        private final OutputStream outputStream;
+        private final Charset charset;
+        private final boolean utf8;
+        private final JSContext context;
+
+        StreamOutput(OutputStream outputStream, Charset charset, JSContext context) {
+            this.outputStream = outputStream;
+            this.charset = charset;
+            this.utf8 = StandardCharsets.UTF_8.equals(charset);
+            this.context = context;
+        }
+
+        @Override
+        void write(String html) throws IOException {
+            outputStream.write(html.getBytes(charset));
         }
 
-        var renderCallback = new RenderCallback(writer, request);
+        @Override
+        void write(byte[] utf8, int length) throws IOException {
+            if (this.utf8) {
+                outputStream.write(utf8, 0, length);
+            } else {
+                outputStream.write(new String(utf8, 0, length, StandardCharsets.UTF_8).getBytes(charset));
+            }
+        }
 
-        // We wrap the props object so we can use Micronaut's compile-time reflection implementation.
-        // This should be more native-image friendly (no need to write reflection config files), and
-        // might also be faster.
-        Value guestProps = ProxyObjectWithIntrospectableSupport.wrap(context.polyglotContext, props);
-        context.render.executeVoid(component, guestProps, renderCallback, reactConfiguration.getClientBundleURL(), request);
+        @Override
+        byte[] buffer(int length) {
+            return context.outputBuffer(length);
+        }
+    }
+
+    /**
+     * Emits everything written to it as a chunk, as the render script writes the chunks React
+     * produces. Chunks outlive the write, so bytes are copied into an array of their own. A render
+     * can't be paused, so chunks the client hasn't requested yet are queued, up to a limit past
+     * which the render is given up on.
+     */
+    private static final class ChunkOutput extends RenderOutput {
+        private final FluxSink<byte[]> sink;
+        private final Charset charset;
+        private final boolean utf8;
+        private final long limit;
+        private final Runnable onOverflow;
+        private final Queue<byte[]> chunks = new ConcurrentLinkedQueue<>();
+        private final AtomicLong queued = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean written;
+        private volatile boolean cancelled;
+        private volatile boolean finished;
+        private volatile @Nullable Throwable error;
+
+        ChunkOutput(FluxSink<byte[]> sink, Charset charset, long limit, Runnable onOverflow) {
+            this.sink = sink;
+            this.charset = charset;
+            this.utf8 = StandardCharsets.UTF_8.equals(charset);
+            this.limit = limit;
+            this.onOverflow = onOverflow;
+            sink.onRequest(n -> drain());
+        }
+
+        @Override
+        void write(String html) {
+            if (!html.isEmpty()) {
+                emit(html.getBytes(charset));
+            }
+        }
+
+        @Override
+        void write(byte[] utf8, int length) {
+            if (length > 0) {
+                emit(this.utf8 ? utf8 : new String(utf8, 0, length, StandardCharsets.UTF_8).getBytes(charset));
+            }
+        }
+
+        @Override
+        byte[] buffer(int length) {
+            return new byte[length];
+        }
+
+        private void emit(byte[] chunk) {
+            written = true;
+            if (cancelled) {
+                return;
+            }
+            chunks.offer(chunk);
+            if (queued.addAndGet(chunk.length) > limit) {
+                cancel();
+                onOverflow.run();
+                return;
+            }
+            drain();
+        }
+
+        /**
+         * Ends the stream once the queued chunks went out, or at once if the render failed.
+         *
+         * @param last  A chunk to emit after the queued ones, if any.
+         * @param error What the render failed with, if it did.
+         */
+        void finish(@Nullable byte[] last, @Nullable Throwable error) {
+            if (error != null) {
+                chunks.clear();
+                this.error = error;
+            } else if (last != null) {
+                chunks.offer(last);
+            }
+            finished = true;
+            drain();
+        }
+
+        void cancel() {
+            cancelled = true;
+            chunks.clear();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                long requested = sink.requestedFromDownstream();
+                byte[] chunk;
+                while (requested > 0 && (chunk = chunks.poll()) != null) {
+                    queued.addAndGet(-chunk.length);
+                    sink.next(chunk);
+                    requested--;
+                }
+                if (finished && chunks.isEmpty()) {
+                    Throwable e = error;
+                    if (e != null) {
+                        sink.error(e);
+                    } else {
+                        sink.complete();
+                    }
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
     }
 
     /**
@@ -110,12 +612,14 @@ public class ReactViewsRenderer<PROPS> implements ViewsRenderer<PROPS, HttpReque
      * @hidden
      */
     public static final class RenderCallback {
-        private final Writer responseWriter;
+        private final RenderOutput output;
         private final @Nullable HttpRequest<?> request;
+        private final @Nullable String propsJSON;
 
-        RenderCallback(Writer responseWriter, HttpRequest<?> request) {
-            this.responseWriter = responseWriter;
+        RenderCallback(RenderOutput output, HttpRequest<?> request, @Nullable String propsJSON) {
+            this.output = output;
             this.request = request;
+            this.propsJSON = propsJSON;
         }
 
         @HostAccess.Export
@@ -127,23 +631,51 @@ public class ReactViewsRenderer<PROPS> implements ViewsRenderer<PROPS, HttpReque
             return request.getUri().toString();
         }
 
+        /**
+         * @return The props already serialized to JSON on the host, URL included, or null unless
+         * {@code micronaut.views.react.serialize-props} is enabled.
+         * @since 5.6.0
+         */
         @HostAccess.Export
-        public void write(String html) {
-            try {
-                responseWriter.write(html);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+        @Nullable
+        public String propsJSON() {
+            return propsJSON;
         }
 
+        /**
+         * Writes a string, or the bytes of a {@code Uint8Array} or {@code ArrayBuffer}, which are
+         * expected to be UTF-8. Typed arrays are copied out of the guest in bulk.
+         *
+         * @param chunk The string or bytes to write to the response.
+         */
         @HostAccess.Export
-        public void write(int[] unsignedBytes) {
+        public void write(Value chunk) {
             try {
-                byte[] bytes = new byte[unsignedBytes.length];
-                for (int i = 0; i < unsignedBytes.length; i++) {
-                    bytes[i] = (byte) unsignedBytes[i];
+                if (chunk.isString()) {
+                    output.write(chunk.asString());
+                    return;
+                }
+                Value buffer = chunk;
+                long offset = 0;
+                int length;
+                if (!chunk.hasBufferElements() && chunk.hasMember("buffer")) {
+                    // A typed array over an ArrayBuffer that doesn't expose its bytes by itself.
+                    buffer = chunk.getMember("buffer");
+                    offset = chunk.getMember("byteOffset").asLong();
+                }
+                byte[] bytes;
+                if (buffer.hasBufferElements()) {
+                    length = buffer == chunk ? Math.toIntExact(chunk.getBufferSize()) : chunk.getMember("byteLength").asInt();
+                    bytes = output.buffer(length);
+                    buffer.readBuffer(offset, bytes, 0, length);
+                } else {
+                    length = Math.toIntExact(chunk.getArraySize());
+                    bytes = output.buffer(length);
+                    for (int i = 0; i < length; i++) {
+                        bytes[i] = (byte) chunk.getArrayElement(i).asInt();
+                    }
                 }
-                responseWriter.write(new String(bytes, StandardCharsets.UTF_8));
+                output.write(bytes, length);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -17,9 +17,16 @@ package io.micronaut.views.react;
 
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.views.ViewsConfigurationProperties;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.nio.file.Path;
+import java.time.Duration;
 
 /**
  * An interface to the configuration properties for React server-side rendering.
@@ -40,6 +47,18 @@ public interface ReactViewsRendererConfiguration {
     /** The default value for {@link #getRenderScript()}. */
     String DEFAULT_RENDER_SCRIPT = "classpath:/io/micronaut/views/react/react.js";
 
+    /** The default value for {@link #getMinContexts()}. */
+    int DEFAULT_MIN_CONTEXTS = 0;
+
+    /** The default value for {@link #getAcquireTimeout()}. */
+    String DEFAULT_ACQUIRE_TIMEOUT = "30s";
+
+    /** The default value for {@link #getStreamTimeout()}. */
+    String DEFAULT_STREAM_TIMEOUT = "60s";
+
+    /** The default value for {@link #getStreamBufferSize()}. */
+    int DEFAULT_STREAM_BUFFER_SIZE = 1024 * 1024;
+
     /**
      * @return the URL (relative or absolute) where the client Javascript bundle can be found. It will
      * be appended to the generated HTML in a &lt;script&gt; tag. Defaults
@@ -60,6 +79,17 @@ public interface ReactViewsRendererConfiguration {
     @Bindable(defaultValue = DEFAULT_SERVER_BUNDLE_PATH)
     String getServerBundlePath();
 
+    /**
+     * @return the path of a JSON manifest mapping component names to the server-side modules that
+     * define them, resolved like {@link #getServerBundlePath()}. Module paths are relative to the
+     * manifest. Components that aren't exported by the server bundle are loaded from these modules
+     * the first time a context renders them, so that large applications don't pay for every page
+     * in every context.
+     * @since 5.6.0
+     */
+    @Nullable
+    String getServerManifestPath();
+
 
     /**
      * @return Either a file path (starting with "file:" or a resource in the classpath
@@ -78,4 +108,110 @@ public interface ReactViewsRendererConfiguration {
      */
     @Bindable(defaultValue = "false")
     boolean getSandbox();
+
+    /**
+     * @return the number of Javascript contexts created at startup and kept in the pool, so that the
+     * first requests don't pay for creating them. Defaults to {@value #DEFAULT_MIN_CONTEXTS}.
+     * @since 5.6.0
+     */
+    @PositiveOrZero
+    @Bindable(defaultValue = "" + DEFAULT_MIN_CONTEXTS)
+    int getMinContexts();
+
+    /**
+     * @return the maximum number of Javascript contexts, i.e. of views rendered at the same time.
+     * Each context holds its own copy of the server bundle's heap. Defaults to the number of
+     * available processors.
+     * @since 5.6.0
+     */
+    @Positive
+    @Nullable
+    Integer getMaxContexts();
+
+    /**
+     * @return how long a render waits for a Javascript context when all of them are in use,
+     * before failing. Defaults to {@value #DEFAULT_ACQUIRE_TIMEOUT}.
+     * @since 5.6.0
+     */
+    @NotNull
+    @NonNull
+    @Bindable(defaultValue = DEFAULT_ACQUIRE_TIMEOUT)
+    Duration getAcquireTimeout();
+
+    /**
+     * @return If true, props are serialized to JSON once on the host with the application's
+     * {@link io.micronaut.json.JsonMapper} and the render script receives the parsed object, with
+     * the same JSON reused for the hydration payload. Props then have to be serializable (for example
+     * annotated with {@code @Serdeable}), and their {@code @Executable} methods aren't callable from
+     * Javascript. Defaults to OFF.
+     * @since 5.6.0
+     */
+    @Bindable(defaultValue = "false")
+    boolean getSerializeProps();
+
+    /**
+     * @return a file where GraalJS keeps the code it compiled, so that a restarted application
+     * doesn't have to compile it again. It's loaded if it exists, and written when the application
+     * shuts down otherwise. This needs a GraalVM runtime that supports auxiliary engine caching,
+     * such as an Oracle GraalVM native image; elsewhere it is ignored with a warning.
+     * @since 5.6.0
+     */
+    @Nullable
+    Path getCodeCachePath();
+
+    /**
+     * @return the longest a render may take. A render still running then is cancelled, and the
+     * Javascript context it ran in is closed and replaced. Defaults to no limit.
+     * @since 5.6.0
+     */
+    @Nullable
+    Duration getRenderTimeout();
+
+    /**
+     * @return the longest a streamed render may wait for the promise returned by the render
+     * script to settle, when no {@code render-timeout} is set. A render still pending then is
+     * cancelled, so that its Javascript context isn't held forever. Defaults to
+     * {@value #DEFAULT_STREAM_TIMEOUT}.
+     * @since 5.6.0
+     */
+    @NotNull
+    @NonNull
+    @Bindable(defaultValue = DEFAULT_STREAM_TIMEOUT)
+    Duration getStreamTimeout();
+
+    /**
+     * @return the most bytes of a streamed render held for a client that reads more slowly than
+     * the component renders. A render which gets further ahead is cancelled. Defaults to
+     * {@value #DEFAULT_STREAM_BUFFER_SIZE}.
+     * @since 5.6.0
+     */
+    @Positive
+    @Bindable(defaultValue = "" + DEFAULT_STREAM_BUFFER_SIZE)
+    int getStreamBufferSize();
+
+    /**
+     * @return the most CPU time a render may use, enforced by GraalJS. This needs a GraalVM runtime
+     * that supports sandbox resource limits, such as Oracle GraalVM. Defaults to no limit.
+     * @since 5.6.0
+     */
+    @Nullable
+    Duration getMaxCpuTime();
+
+    /**
+     * @return the most heap memory a Javascript context may retain, for example {@code 64MB},
+     * enforced by GraalJS. This needs a GraalVM runtime that supports sandbox resource limits,
+     * such as Oracle GraalVM. Defaults to no limit.
+     * @since 5.6.0
+     */
+    @Nullable
+    String getMaxHeapMemory();
+
+    /**
+     * @return If true, a render cancelled because it exceeded its limits is replaced by a page that
+     * only loads the client bundle, which then renders the component in the browser. The props are
+     * serialized with the application's {@link io.micronaut.json.JsonMapper}. Defaults to OFF.
+     * @since 5.6.0
+     */
+    @Bindable(defaultValue = "false")
+    boolean getClientSideFallback();
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.react;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.convert.format.MapFormat;
+import io.micronaut.core.naming.conventions.StringConvention;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configures how React views are warmed up when they are listed in
+ * {@code micronaut.views.warmup.views}. A warmed up view is rendered repeatedly with sample props,
+ * so that GraalJS compiles the code paths it takes before the first request arrives.
+ *
+ * @since 5.6.0
+ */
+@ConfigurationProperties(ReactWarmupConfiguration.PREFIX)
+public class ReactWarmupConfiguration {
+
+    /**
+     * The config key prefix used to configure the warm-up of React views.
+     */
+    public static final String PREFIX = ReactViewsRendererConfiguration.PREFIX + ".warmup";
+
+    /**
+     * The default maximum number of renders of a view.
+     */
+    public static final int DEFAULT_MAX_RENDERS = 1000;
+
+    /**
+     * The default time a view is warmed up for at most, in seconds. Kept well below the default
+     * {@link ReactViewsRendererConfiguration#getAcquireTimeout() acquire timeout}.
+     */
+    public static final int DEFAULT_TIMEOUT_SECONDS = 10;
+
+    private Map<String, Object> props = Collections.emptyMap();
+    private int maxRenders = DEFAULT_MAX_RENDERS;
+    private Duration timeout = Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS);
+
+    /**
+     * The sample props each component is rendered with, keyed by component name. A component
+     * without sample props is rendered without props.
+     *
+     * @return The sample props by component name
+     */
+    @NonNull
+    public Map<String, Object> getProps() {
+        return props;
+    }
+
+    /**
+     * The most times a view is rendered, even if rendering is still getting
+     * faster. Default value ({@value #DEFAULT_MAX_RENDERS}).
+     *
+     * @return The maximum number of renders
+     */
+    public int getMaxRenders() {
+        return maxRenders;
+    }
+
+    /**
+     * The longest a view is warmed up for. Default value ({@value #DEFAULT_TIMEOUT_SECONDS} seconds).
+     *
+     * @return The warm-up timeout
+     */
+    @NonNull
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * The sample props each component is rendered with, keyed by component name. A component
+     * without sample props is rendered without props.
+     *
+     * @param props The sample props by component name
+     */
+    public void setProps(@NonNull @MapFormat(transformation = MapFormat.MapTransformation.NESTED, keyFormat = StringConvention.RAW) Map<String, Object> props) {
+        this.props = props;
+    }
+
+    /**
+     * The most times a view is rendered, even if rendering is still getting
+     * faster. Default value ({@value #DEFAULT_MAX_RENDERS}).
+     *
+     * @param maxRenders The maximum number of renders
+     */
+    public void setMaxRenders(int maxRenders) {
+        if (maxRenders > 0) {
+            this.maxRenders = maxRenders;
+        }
+    }
+
+    /**
+     * The longest a view is warmed up for. Default value ({@value #DEFAULT_TIMEOUT_SECONDS} seconds).
+     *
+     * @param timeout The warm-up timeout
+     */
+    public void setTimeout(@NonNull Duration timeout) {
+        this.timeout = timeout;
+    }
+}
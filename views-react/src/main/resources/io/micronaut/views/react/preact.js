@@ -11,6 +11,11 @@ export function ssr(component, props, callback, clientBundleURL) {
     };
 
     // The Micronaut object defined here is not the same as the Micronaut object defined server side.
-    callback.write(`<script type="text/javascript">var Micronaut = ${JSON.stringify(boot)};</script>`)
+    // When the server already serialized the props, reuse that JSON instead of stringifying them again.
+    const propsJSON = callback.propsJSON();
+    const bootJSON = propsJSON !== null
+        ? `{"rootProps":${propsJSON},"rootComponent":${JSON.stringify(component.name)}}`
+        : JSON.stringify(boot);
+    callback.write(`<script type="text/javascript">var Micronaut = ${bootJSON};</script>`)
     callback.write(`<script type="text/javascript" src="${clientBundleURL}" async="true">`)
 }
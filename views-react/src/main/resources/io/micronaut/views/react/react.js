@@ -12,7 +12,11 @@ export async function ssr(component, props, callback, clientBundleURL) {
     };
 
     // The Micronaut object defined here is not the same as the Micronaut object defined server side.
-    const bootstrapScriptContent = `var Micronaut = ${JSON.stringify(boot)};`;
+    // When the server already serialized the props, reuse that JSON instead of stringifying them again.
+    const propsJSON = callback.propsJSON();
+    const bootstrapScriptContent = propsJSON !== null
+        ? `var Micronaut = {"rootProps":${propsJSON},"rootComponent":${JSON.stringify(component.name)}};`
+        : `var Micronaut = ${JSON.stringify(boot)};`;
     const stream = await ReactDOMServer.renderToReadableStream(element, {
         bootstrapScriptContent: bootstrapScriptContent,
         bootstrapScripts: [clientBundleURL]
@@ -38,4 +38,37 @@ class IntrospectableBeansAreProxiedSpec extends Specification {
         ((Value) innerBeanMap.getMember("key")).asInt() == 123
         context.eval("js", "bean.innerBean.map[\"key\"]").asInt() == 123
     }
+
+    void "methods are looked up by name"() {
+        given:
+        def context = contextPool.acquire().polyglotContext
+        def bean = new SomeBean("foo value", "bar value", null)
+        context.getBindings("js").putMember("bean", ProxyObjectWithIntrospectableSupport.wrap(context, bean))
+
+        expect:
+        context.eval("js", "bean.sayHello('Bob')").asString() == "Hello Bob!"
+        context.eval("js", "bean.sayGoodbye('Bob')").asString() == "Goodbye Bob!"
+        context.eval("js", "Object.keys(bean).sort().join(',')").asString() == "bar,foo,innerBean,sayGoodbye,sayHello"
+    }
+
+    void "maps and collections are exposed without being copied"() {
+        given:
+        def context = contextPool.acquire().polyglotContext
+        def list = ["one", "two"]
+        def map = [(1): "number", "key": "string"]
+        def bean = new SomeBean("foo value", "bar value", new SomeBean.InnerBean(10, map, list))
+        context.getBindings("js").putMember("bean", ProxyObjectWithIntrospectableSupport.wrap(context, bean))
+
+        when:
+        list << "three"
+        map.put("late", "added")
+
+        then:
+        context.eval("js", "bean.innerBean.list.length").asInt() == 3
+        context.eval("js", "bean.innerBean.list[2]").asString() == "three"
+        context.eval("js", "bean.innerBean.map['1']").asString() == "number"
+        context.eval("js", "bean.innerBean.map.late").asString() == "added"
+        context.eval("js", "bean.innerBean.map.missing == null").asBoolean()
+        context.eval("js", "JSON.stringify(bean.innerBean)").asString() == '{"a":10,"list":["one","two","three"],"map":{"1":"number","key":"string","late":"added"}}'
+    }
 }
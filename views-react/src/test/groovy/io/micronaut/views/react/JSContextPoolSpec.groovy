@@ -0,0 +1,129 @@
+package io.micronaut.views.react
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.views.exceptions.ViewRenderingException
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.util.concurrent.ExecutionException
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.views.react.min-contexts", value = "1")
+@Property(name = "micronaut.views.react.max-contexts", value = "2")
+@Property(name = "micronaut.views.react.acquire-timeout", value = "100ms")
+class JSContextPoolSpec extends Specification {
+    @Inject
+    JSContextPool contextPool
+
+    void "the minimum number of contexts is created at startup"() {
+        expect:
+        contextPool.size == 1
+        contextPool.created == 1
+        contextPool.maxSize == 2
+    }
+
+    void "a released context is reused"() {
+        when:
+        JSContext first = contextPool.acquire()
+        contextPool.release(first)
+        JSContext second = contextPool.acquire()
+        contextPool.release(second)
+
+        then:
+        second.is(first)
+        contextPool.active == 0
+    }
+
+    void "acquiring a context times out when the pool is exhausted"() {
+        given:
+        JSContext first = contextPool.acquire()
+        JSContext second = contextPool.acquire()
+
+        when:
+        contextPool.acquire()
+
+        then:
+        thrown(ViewRenderingException)
+        contextPool.size == 2
+        contextPool.active == 2
+        contextPool.timeouts == 1
+
+        cleanup:
+        contextPool.release(first)
+        contextPool.release(second)
+    }
+
+    void "looking up a component does not take a context"() {
+        given:
+        JSContext first = contextPool.acquire()
+        JSContext second = contextPool.acquire()
+
+        expect:
+        contextPool.hasComponent("Greeting")
+        !contextPool.hasComponent("Missing")
+        contextPool.timeouts == 0
+
+        cleanup:
+        contextPool.release(first)
+        contextPool.release(second)
+    }
+
+    void "reloading the bundle swaps in a new generation of contexts"() {
+        given:
+        JSContext before = contextPool.acquire()
+        contextPool.release(before)
+
+        when:
+        contextPool.reload(null).get()
+        JSContext after = contextPool.acquire()
+        contextPool.release(after)
+
+        then:
+        !after.is(before)
+        after.versionCounter == before.versionCounter + 1
+        contextPool.size == 1
+    }
+
+    void "reloading the bundle doesn't grow the pool past its maximum"() {
+        given: "one context in use and one idle"
+        JSContext inUse = contextPool.acquire()
+        JSContext idle = contextPool.acquire()
+        contextPool.release(idle)
+
+        when:
+        contextPool.reload(null).get()
+
+        then: "the idle context made room for its replacement"
+        contextPool.size == 2
+
+        when:
+        contextPool.release(inUse)
+        JSContext after = contextPool.acquire()
+        contextPool.release(after)
+
+        then: "the context released after the reload was closed"
+        after.versionCounter == inUse.versionCounter + 1
+        contextPool.size == 1
+    }
+
+    void "a bundle that fails to load leaves the previous one in use"() {
+        given:
+        JSContext before = contextPool.acquire()
+        contextPool.release(before)
+
+        when:
+        contextPool.reload("classpath:views/missing.mjs").get()
+
+        then:
+        ExecutionException e = thrown()
+        e.cause.cause instanceof FileNotFoundException
+
+        when:
+        JSContext after = contextPool.acquire()
+        contextPool.release(after)
+
+        then:
+        after.is(before)
+    }
+}
@@ -5,15 +5,22 @@ import io.micronaut.core.io.Writable
 import io.micronaut.http.HttpRequest
 import io.micronaut.http.exceptions.MessageBodyException
 import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.views.streaming.StreamingWritable
 import jakarta.inject.Inject
+import reactor.core.publisher.Flux
 import spock.lang.Specification
 
+import java.nio.charset.StandardCharsets
+
 @MicronautTest(startApplication = false, rebuildContext = true)
 @Property(name = "micronaut.views.react.server-bundle-path", value = "classpath:views/ssr-components.mjs")
 class ReactViewRenderSpec extends Specification {
     @Inject
     ReactViewsRenderer<?> renderer;
 
+    @Inject
+    JSContextPool contextPool
+
     void "views can be rendered with basic props"() {
         when:
         Writable writable = renderer.render("App", TestProps.basic, null)
@@ -49,6 +56,17 @@ class ReactViewRenderSpec extends Specification {
         result.contains("URL is <!-- -->https://localhost/demopage")
     }
 
+    void "bytes React produces are written to a stream as they are"() {
+        when:
+        def out = new ByteArrayOutputStream()
+        renderer.render("App", TestProps.basic + ["name": "Zoë ✓"], null).writeTo(out, StandardCharsets.UTF_8)
+        String result = out.toString(StandardCharsets.UTF_8)
+
+        then:
+        result.contains("Hello there <!-- -->Zoë ✓")
+        result.contains("\"name\":\"Zoë ✓\"")
+    }
+
     void "host access is OK if sandbox is disabled"() {
         when:
         renderer.render("App", TestProps.triggerSandbox, null).writeTo(OutputStream.nullOutputStream())
@@ -56,4 +74,17 @@ class ReactViewRenderSpec extends Specification {
         then:
         notThrown(MessageBodyException)
     }
+
+    void "views can be streamed in the chunks React produces"() {
+        when:
+        StreamingWritable writable = (StreamingWritable) renderer.render("App", TestProps.basic, null)
+        List<byte[]> chunks = Flux.from(writable.stream(StandardCharsets.UTF_8)).collectList().block()
+        String result = chunks.collect { new String(it, StandardCharsets.UTF_8) }.join()
+
+        then:
+        !chunks.isEmpty()
+        result.contains("Hello there")
+        result.contains("\"name\":\"Mike\"")
+        contextPool.active == 0
+    }
 }
@@ -0,0 +1,46 @@
+package io.micronaut.views.react
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.views.react.server-bundle-path", value = "classpath:views/ssr-components.mjs")
+@Property(name = "micronaut.views.react.max-contexts", value = "1")
+@Property(name = "micronaut.views.react.acquire-timeout", value = "200ms")
+@Property(name = "micronaut.views.react.warmup.props.Greeting.name", value = "Mike")
+class ReactWarmupAcquireTimeoutSpec extends Specification {
+    @Inject
+    ReactViewsRenderer<?> renderer
+
+    @Inject
+    JSContextPool contextPool
+
+    void "a warm-up that gets no context is skipped"() {
+        given:
+        JSContext held = contextPool.acquire()
+
+        when:
+        long start = System.nanoTime()
+        renderer.prepare("Greeting")
+
+        then:
+        noExceptionThrown()
+        System.nanoTime() - start < 5_000_000_000L
+        contextPool.timeouts == 1
+        contextPool.active == 1
+
+        cleanup:
+        contextPool.release(held)
+    }
+
+    void "a warm-up hands its context back between batches of renders"() {
+        when:
+        renderer.prepare("Greeting")
+
+        then:
+        contextPool.acquisitions > 1
+        contextPool.active == 0
+    }
+}
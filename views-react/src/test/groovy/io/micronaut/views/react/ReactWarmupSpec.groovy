@@ -0,0 +1,42 @@
+package io.micronaut.views.react
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.views.warmup.ViewsWarmup
+import jakarta.inject.Inject
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.views.react.server-bundle-path", value = "classpath:views/ssr-components.mjs")
+@Property(name = "micronaut.views.react.min-contexts", value = "2")
+@Property(name = "micronaut.views.react.warmup.props.Greeting.name", value = "Mike")
+@Property(name = "micronaut.views.react.warmup.max-renders", value = "50")
+@Property(name = "micronaut.views.warmup.enabled", value = "true")
+@Property(name = "micronaut.views.warmup.views", value = "Greeting")
+class ReactWarmupSpec extends Specification {
+    @Inject
+    ViewsWarmup warmup
+
+    @Inject
+    JSContextPool contextPool
+
+    @Inject
+    ReactWarmupConfiguration warmupConfiguration
+
+    void "sample props are bound by component name"() {
+        expect:
+        warmupConfiguration.props.Greeting.name == "Mike"
+    }
+
+    void "views are rendered with their sample props at startup"() {
+        expect:
+        new PollingConditions(timeout: 30).eventually {
+            assert warmup.complete
+        }
+        warmup.results.get()*.view() == ["Greeting"]
+        warmup.results.get()[0].success
+        contextPool.acquisitions > 0
+        contextPool.active == 0
+    }
+}
@@ -0,0 +1,44 @@
+package io.micronaut.views.react
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.core.io.Writable
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.views.react.server-bundle-path", value = "classpath:views/ssr-components.mjs")
+@Property(name = "micronaut.views.react.render-timeout", value = "500ms")
+@Property(name = "micronaut.views.react.client-side-fallback", value = "true")
+class RenderLimitsSpec extends Specification {
+    @Inject
+    ReactViewsRenderer<?> renderer
+
+    @Inject
+    JSContextPool contextPool
+
+    void "a render past its deadline is cancelled and rendered client side"() {
+        when:
+        Writable writable = renderer.render("Spin", ["name": "Mike"], null)
+        def out = new ByteArrayOutputStream()
+        writable.writeTo(out, StandardCharsets.UTF_8)
+        String result = out.toString(StandardCharsets.UTF_8)
+
+        then:
+        result.contains('var Micronaut = {"rootProps":{"name":"Mike"},"rootComponent":"Spin"};')
+        result.contains('src="/static/client.js"')
+        contextPool.recycled == 1
+        contextPool.fallbacks == 1
+        contextPool.active == 0
+
+        when: "the cancelled context was replaced"
+        writable = renderer.render("Greeting", ["name": "Mike"], null)
+        out = new ByteArrayOutputStream()
+        writable.writeTo(out, StandardCharsets.UTF_8)
+
+        then:
+        out.toString(StandardCharsets.UTF_8).contains("Hello there <!-- -->Mike")
+    }
+}
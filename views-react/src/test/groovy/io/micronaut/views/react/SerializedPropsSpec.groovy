@@ -0,0 +1,46 @@
+package io.micronaut.views.react
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.core.io.Writable
+import io.micronaut.http.HttpRequest
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.views.react.server-bundle-path", value = "classpath:views/ssr-components.mjs")
+@Property(name = "micronaut.views.react.serialize-props", value = "true")
+class SerializedPropsSpec extends Specification {
+    @Inject
+    ReactViewsRenderer<?> renderer
+
+    void "props serialized on the host are rendered and reused for hydration"() {
+        given:
+        HttpRequest<?> req = Mock()
+        req.getUri() >> URI.create("https://localhost/demopage")
+
+        when:
+        Writable writable = renderer.render("Greeting", ["name": "Mike", "tags": ["one", "two"]], req)
+        String result = new StringWriter().with {
+            writable.writeTo(it)
+            it.toString()
+        }
+
+        then:
+        result.contains("Hello there <!-- -->Mike<!-- -->, tagged <!-- -->one, two")
+        result.contains("URL is <!-- -->https://localhost/demopage")
+        result.contains('var Micronaut = {"rootProps":{"name":"Mike","tags":["one","two"],"url":"https://localhost/demopage"},"rootComponent":"Greeting"};')
+    }
+
+    void "props are serialized as they are without a request"() {
+        when:
+        Writable writable = renderer.render("Greeting", ["tags": []], null)
+        String result = new StringWriter().with {
+            writable.writeTo(it)
+            it.toString()
+        }
+
+        then:
+        result.contains('"rootProps":{"tags":[]}')
+    }
+}
@@ -0,0 +1,44 @@
+package io.micronaut.views.react
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.core.io.Writable
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.views.react.server-bundle-path", value = "classpath:views/ssr-components.mjs")
+@Property(name = "micronaut.views.react.server-manifest-path", value = "classpath:views/manifest.json")
+class ServerManifestSpec extends Specification {
+    @Inject
+    ReactViewsRenderer<?> renderer
+
+    void "components listed in the manifest are loaded on first render"() {
+        expect:
+        renderer.exists("Farewell")
+        renderer.exists("Greeting")
+        !renderer.exists("Missing")
+
+        when:
+        String first = render("Farewell", ["name": "Mike"])
+        String second = render("Farewell", ["name": "Bob"])
+
+        then:
+        first.contains("Goodbye <!-- -->Mike")
+        second.contains("Goodbye <!-- -->Bob")
+        first.contains('"rootComponent":"Farewell"')
+    }
+
+    void "components exported by the server bundle still render"() {
+        expect:
+        render("Greeting", ["name": "Mike"]).contains("Hello there <!-- -->Mike")
+    }
+
+    private String render(String view, Map<String, Object> props) {
+        Writable writable = renderer.render(view, props, null)
+        new StringWriter().with {
+            writable.writeTo(it)
+            it.toString()
+        }
+    }
+}
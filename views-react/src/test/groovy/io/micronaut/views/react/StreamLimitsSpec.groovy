@@ -0,0 +1,67 @@
+package io.micronaut.views.react
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.http.exceptions.MessageBodyException
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.views.streaming.StreamingWritable
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+import reactor.core.scheduler.Schedulers
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.nio.charset.StandardCharsets
+
+@MicronautTest(startApplication = false)
+@Property(name = "micronaut.views.react.server-bundle-path", value = "classpath:views/ssr-components.mjs")
+@Property(name = "micronaut.views.react.stream-timeout", value = "500ms")
+class StreamLimitsSpec extends Specification {
+    @Inject
+    ReactViewsRenderer<?> renderer
+
+    @Inject
+    JSContextPool contextPool
+
+    void "a streamed render is cancelled past the stream timeout even without a render timeout"() {
+        when:
+        StreamingWritable writable = (StreamingWritable) renderer.render("Spin", ["name": "Mike"], null)
+        Flux.from(writable.stream(StandardCharsets.UTF_8)).collectList().block()
+
+        then:
+        thrown(MessageBodyException)
+        contextPool.recycled == 1
+        contextPool.active == 0
+    }
+
+    void "a streamed render the client stops reading is cancelled and its context released"() {
+        given:
+        long recycled = contextPool.recycled
+        StreamingWritable writable = (StreamingWritable) renderer.render("Spin", ["name": "Mike"], null)
+
+        when:
+        def subscription = Flux.from(writable.stream(StandardCharsets.UTF_8))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe()
+        new PollingConditions(timeout: 5).eventually {
+            assert contextPool.active == 1
+        }
+        subscription.dispose()
+
+        then:
+        new PollingConditions(timeout: 5).eventually {
+            assert contextPool.recycled == recycled + 1
+            assert contextPool.active == 0
+        }
+    }
+
+    void "a streamed render waits for the client to request chunks"() {
+        when:
+        StreamingWritable writable = (StreamingWritable) renderer.render("Greeting", ["name": "Mike"], null)
+        def out = new ByteArrayOutputStream()
+        Flux.from(writable.stream(StandardCharsets.UTF_8)).limitRate(1).doOnNext(out::write).blockLast()
+
+        then:
+        out.toString(StandardCharsets.UTF_8).contains("Hello there <!-- -->Mike")
+        contextPool.active == 0
+    }
+}
@@ -39,6 +39,11 @@ public class SomeBean {
         return "Goodbye " + name + "!";
     }
 
+    @Executable
+    public String sayHello(String name) {
+        return "Hello " + name + "!";
+    }
+
     @Introspected
     public static class InnerBean {
         private final int a;
@@ -0,0 +1,21 @@
+// Greeting.js
+import React from 'react';
+
+// Only reads plain data from its props, so it can be rendered with props serialized to JSON.
+function Greeting({name, tags = [], url}) {
+    return (
+        <html>
+        <head>
+            <title>Greeting</title>
+            <meta charSet="UTF-8"/>
+        </head>
+        <body>
+            <p>Hello there {name}, tagged {tags.join(", ")}!</p>
+            <p>URL is {url}</p>
+        </body>
+        </html>
+    );
+}
+
+export { Greeting };
+export default Greeting;
@@ -0,0 +1,10 @@
+// Spin.js
+
+// Never finishes rendering, to exercise render limits.
+function Spin() {
+    while (true) {
+    }
+}
+
+export { Spin };
+export default Spin;
@@ -3,5 +3,7 @@ import ReactDOMServer from 'react-dom/server';
 
 // Page components
 import App from './components/App';
+import Greeting from './components/Greeting';
+import Spin from './components/Spin';
 
-export { React, ReactDOMServer, App };
+export { React, ReactDOMServer, App, Greeting, Spin };
@@ -3,5 +3,7 @@ import * as preact from 'preact';
 
 // Page components
 import App from './components/App';
+import Greeting from './components/Greeting';
+import Spin from './components/Spin';
 
-export { preact, renderToString, App };
+export { preact, renderToString, App, Greeting, Spin };
@@ -0,0 +1,6 @@
+// Loaded on demand through manifest.json. React is a global exported by the server bundle.
+function Farewell({name}) {
+    return React.createElement("p", null, "Goodbye ", name);
+}
+
+export default Farewell;
@@ -2,6 +2,22 @@ plugins {
     id("io.micronaut.build.internal.views-module")
 }
 
+val soyCompiler by configurations.creating
+
+// Compiles the templates of PrecompiledSoySpec at build time, the way the user guide shows, to put them on the test
+// classpath.
+val compileTestSoy by tasks.registering(JavaExec::class) {
+    val templates = fileTree("src/test/soy") { include("**/*.soy") }
+    val output = layout.buildDirectory.file("soy/templates.jar")
+    inputs.files(templates)
+    outputs.file(output)
+    classpath = soyCompiler
+    mainClass = "com.google.template.soy.SoyToJbcSrcCompiler"
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf("--output", output.get().asFile.path, "--srcs", templates.files.joinToString(","))
+    })
+}
+
 dependencies {
     annotationProcessor(mnValidation.micronaut.validation.processor)
 
@@ -10,6 +26,7 @@ dependencies {
         exclude(group = "org.json", module = "json")
     }
     implementation(libs.org.json)
+    implementation(mn.reactor)
 
     compileOnly(mn.micronaut.management)
     compileOnly(mnValidation.micronaut.validation)
@@ -25,4 +42,7 @@ dependencies {
     testImplementation(mn.micronaut.management)
     testImplementation(mnValidation.micronaut.validation)
     testImplementation(mn.snakeyaml)
+    testRuntimeOnly(files(compileTestSoy))
+
+    soyCompiler(libs.managed.soy)
 }
\ No newline at end of file
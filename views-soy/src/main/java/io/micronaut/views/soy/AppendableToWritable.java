@@ -59,4 +59,11 @@ public class AppendableToWritable implements Writable, Appendable, AdvisingAppen
         out.write(builder.toString());
     }
 
+    /**
+     * @return The rendered view.
+     */
+    String rendered() {
+        return builder.toString();
+    }
+
 }
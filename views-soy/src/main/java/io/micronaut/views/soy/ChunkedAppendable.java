@@ -0,0 +1,88 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.soy;
+
+import com.google.template.soy.jbcsrc.api.AdvisingAppendable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+/**
+ * Buffers one chunk of a Soy render, and asks Soy to pause once the chunk reaches the soft limit so that it can be
+ * sent before rendering continues.
+ *
+ * @since 5.6.0
+ */
+final class ChunkedAppendable implements AdvisingAppendable {
+    private final StringBuilder chunk = new StringBuilder();
+    private final int softLimit;
+
+    /**
+     * @param softLimit The number of characters after which Soy is asked to pause
+     */
+    ChunkedAppendable(int softLimit) {
+        this.softLimit = softLimit;
+    }
+
+    @Override
+    public AdvisingAppendable append(CharSequence charSequence) {
+        chunk.append(charSequence);
+        return this;
+    }
+
+    @Override
+    public AdvisingAppendable append(CharSequence charSequence, int start, int end) {
+        chunk.append(charSequence, start, end);
+        return this;
+    }
+
+    @Override
+    public AdvisingAppendable append(char c) {
+        chunk.append(c);
+        return this;
+    }
+
+    @Override
+    public boolean softLimitReached() {
+        return chunk.length() >= softLimit;
+    }
+
+    boolean isEmpty() {
+        return chunk.isEmpty();
+    }
+
+    /**
+     * @param charset The charset to encode the chunk with
+     * @return The buffered chunk, after which the buffer is empty
+     */
+    byte[] take(Charset charset) {
+        byte[] bytes = chunk.toString().getBytes(charset);
+        chunk.setLength(0);
+        return bytes;
+    }
+
+    /**
+     * Writes out the buffered chunk, after which the buffer is empty.
+     *
+     * @param out The writer to write to
+     * @throws IOException if the writer fails
+     */
+    void writeTo(Writer out) throws IOException {
+        out.append(chunk);
+        chunk.setLength(0);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.soy;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.template.soy.data.SoyTemplate;
+import com.google.template.soy.jbcsrc.api.SoySauce;
+import com.google.template.soy.parseinfo.TemplateName;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.exceptions.HttpStatusException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+
+/**
+ * Templates which are compiled in the background. Rather than block the calling thread, which may be an event loop,
+ * each call fails with {@code 503 Service Unavailable} until they are compiled, and fails if they couldn't be. Only
+ * {@link #hasTemplate(String)} answers {@code false} instead, as the views of other engines are looked up after it.
+ *
+ * @since 5.6.0
+ */
+final class DeferredSoySauce implements SoySauce {
+    private final CompletableFuture<SoySauce> compilation;
+
+    DeferredSoySauce(CompletableFuture<SoySauce> compilation) {
+        this.compilation = compilation;
+    }
+
+    private SoySauce compiled() {
+        if (!compilation.isDone()) {
+            throw new HttpStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Soy templates are still being compiled");
+        }
+        try {
+            return compilation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Renderer renderTemplate(String template) {
+        return compiled().renderTemplate(template);
+    }
+
+    @Override
+    public Renderer renderTemplate(TemplateName template) {
+        return compiled().renderTemplate(template);
+    }
+
+    @Override
+    public Renderer newRenderer(SoyTemplate params) {
+        return compiled().newRenderer(params);
+    }
+
+    @Override
+    public ImmutableSet<String> getTransitiveIjParamsForTemplateRender(String templateName, Map<String, ?> params) {
+        return compiled().getTransitiveIjParamsForTemplateRender(templateName, params);
+    }
+
+    @Override
+    public ImmutableSet<String> getTransitiveIjParamsForTemplate(String templateName) {
+        return compiled().getTransitiveIjParamsForTemplate(templateName);
+    }
+
+    @Override
+    public ImmutableList<String> getAllRequiredCssNamespaces(String templateName, Predicate<String> enabledDelpackages, boolean collectCssFromDelvariants) {
+        return compiled().getAllRequiredCssNamespaces(templateName, enabledDelpackages, collectCssFromDelvariants);
+    }
+
+    @Override
+    public ImmutableList<String> getAllRequiredCssNamespaces(SoyTemplate template, Predicate<String> enabledDelpackages, boolean collectCssFromDelvariants) {
+        return compiled().getAllRequiredCssNamespaces(template, enabledDelpackages, collectCssFromDelvariants);
+    }
+
+    @Override
+    public ImmutableList<String> getAllRequiredCssPaths(String templateName, Predicate<String> enabledDelpackages, boolean collectCssFromDelvariants) {
+        return compiled().getAllRequiredCssPaths(templateName, enabledDelpackages, collectCssFromDelvariants);
+    }
+
+    @Override
+    public ImmutableList<String> getAllRequiredCssPaths(SoyTemplate template, Predicate<String> enabledDelpackages, boolean collectCssFromDelvariants) {
+        return compiled().getAllRequiredCssPaths(template, enabledDelpackages, collectCssFromDelvariants);
+    }
+
+    @Override
+    public boolean hasTemplate(String template) {
+        return compilation.isDone() && compiled().hasTemplate(template);
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.soy;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.template.soy.data.LoggingAdvisingAppendable;
+import com.google.template.soy.data.SoyAbstractValue;
+import com.google.template.soy.data.SoyRecord;
+import com.google.template.soy.data.SoyValue;
+import com.google.template.soy.data.SoyValueProvider;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanIntrospector;
+import io.micronaut.core.beans.BeanProperty;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * A Soy record of the properties of an introspected bean. A property is read and converted the first time a
+ * template reads it, and the properties of each class are looked up once.
+ *
+ * @since 5.6.0
+ */
+final class IntrospectedSoyRecord extends SoyAbstractValue implements SoyRecord {
+
+    private static final Map<Class<?>, Optional<Fields>> FIELDS = new ConcurrentHashMap<>();
+
+    private final Object bean;
+    private final Fields fields;
+    private final SoyValueProvider[] providers;
+
+    private IntrospectedSoyRecord(Object bean, Fields fields) {
+        this.bean = bean;
+        this.fields = fields;
+        this.providers = new SoyValueProvider[fields.properties.length];
+    }
+
+    /**
+     * @param bean A value of the model
+     * @return A record of its properties, or null if its class isn't introspected
+     */
+    @Nullable
+    static IntrospectedSoyRecord of(Object bean) {
+        Class<?> type = bean.getClass();
+        Optional<Fields> fields = FIELDS.get(type);
+        if (fields == null) {
+            fields = FIELDS.computeIfAbsent(type, t -> BeanIntrospector.SHARED.findIntrospection(t).map(Fields::new));
+        }
+        return fields.map(f -> new IntrospectedSoyRecord(bean, f)).orElse(null);
+    }
+
+    /**
+     * @return The fields, each read when the template first reads it
+     */
+    Map<String, SoyValueProvider> lazyFields() {
+        Map<String, SoyValueProvider> lazyFields = new HashMap<>(Math.max(4, providers.length * 4 / 3 + 1));
+        for (int i = 0; i < providers.length; i++) {
+            final int index = i;
+            lazyFields.put(fields.properties[i].getName(), new SoyModels.LazyValueProvider(() -> provider(index)));
+        }
+        return lazyFields;
+    }
+
+    @Override
+    public boolean hasField(String name) {
+        return fields.indexOf(name) != -1;
+    }
+
+    @Override
+    public SoyValue getField(String name) {
+        SoyValueProvider provider = getFieldProvider(name);
+        return provider != null ? provider.resolve() : null;
+    }
+
+    @Override
+    public SoyValueProvider getFieldProvider(String name) {
+        int index = fields.indexOf(name);
+        return index != -1 ? provider(index) : null;
+    }
+
+    @Override
+    public ImmutableMap<String, SoyValueProvider> recordAsMap() {
+        ImmutableMap.Builder<String, SoyValueProvider> map = ImmutableMap.builderWithExpectedSize(providers.length);
+        forEach(map::put);
+        return map.build();
+    }
+
+    @Override
+    public void forEach(BiConsumer<String, ? super SoyValueProvider> action) {
+        for (int i = 0; i < providers.length; i++) {
+            action.accept(fields.properties[i].getName(), provider(i));
+        }
+    }
+
+    @Override
+    public int recordSize() {
+        return providers.length;
+    }
+
+    @Override
+    public boolean coerceToBoolean() {
+        return true;
+    }
+
+    @Override
+    public String coerceToString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < providers.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(fields.properties[i].getName()).append(": ").append(provider(i).resolve().coerceToString());
+        }
+        return builder.append('}').toString();
+    }
+
+    @Override
+    public void render(LoggingAdvisingAppendable appendable) throws IOException {
+        appendable.append(coerceToString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    private SoyValueProvider provider(int index) {
+        SoyValueProvider provider = providers[index];
+        if (provider == null) {
+            provider = SoyModels.provider(fields.properties[index].get(bean));
+            providers[index] = provider;
+        }
+        return provider;
+    }
+
+    /**
+     * The readable properties of a bean class.
+     */
+    private static final class Fields {
+        private final BeanProperty<Object, Object>[] properties;
+        private final Map<String, Integer> indexes;
+
+        @SuppressWarnings("unchecked")
+        Fields(BeanIntrospection<?> introspection) {
+            this.properties = introspection.getBeanProperties().stream()
+                .filter(property -> !property.isWriteOnly())
+                .toArray(BeanProperty[]::new);
+            ImmutableMap.Builder<String, Integer> indexes = ImmutableMap.builderWithExpectedSize(properties.length);
+            for (int i = 0; i < properties.length; i++) {
+                indexes.put(properties[i].getName(), i);
+            }
+            this.indexes = indexes.build();
+        }
+
+        int indexOf(String name) {
+            Integer index = indexes.get(name);
+            return index != null ? index : -1;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.soy;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.management.health.indicator.AbstractHealthIndicator;
+import io.micronaut.management.health.indicator.HealthIndicator;
+import io.micronaut.management.health.indicator.annotation.Readiness;
+import jakarta.inject.Singleton;
+
+import java.util.Map;
+
+/**
+ * Reports the application as not ready until the Soy templates compiled in the background are compiled.
+ *
+ * @since 5.6.0
+ */
+@Singleton
+@Readiness
+@Requires(classes = HealthIndicator.class)
+@Requires(beans = SoySauceViewsRenderer.class)
+@Requires(property = SoyViewsRendererConfigurationProperties.PREFIX + ".compile-in-background", value = "true")
+public class SoyCompilationHealthIndicator extends AbstractHealthIndicator<Map<String, Object>> {
+
+    /**
+     * The name of the health indicator.
+     */
+    public static final String NAME = "soy-compilation";
+
+    private final SoySauceViewsRenderer<?> renderer;
+
+    /**
+     * @param renderer Soy views renderer
+     */
+    public SoyCompilationHealthIndicator(SoySauceViewsRenderer<?> renderer) {
+        this.renderer = renderer;
+    }
+
+    @Override
+    protected Map<String, Object> getHealthInformation() {
+        if (!renderer.compilation().isDone()) {
+            healthStatus = HealthStatus.DOWN;
+            return Map.of("compiled", false);
+        }
+        // Reported as DOWN with the error if compilation failed.
+        renderer.compilation().join();
+        healthStatus = HealthStatus.UP;
+        return Map.of("compiled", true);
+    }
+
+    @Override
+    protected String getName() {
+        return NAME;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.soy;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.template.soy.data.LoggingAdvisingAppendable;
+import com.google.template.soy.data.SoyValue;
+import com.google.template.soy.data.SoyValueConverter;
+import com.google.template.soy.data.SoyValueProvider;
+import com.google.template.soy.jbcsrc.api.RenderResult;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.views.ViewUtils;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * Converts models to Soy values as templates read them. Introspected beans are exposed as
+ * {@link IntrospectedSoyRecord records}, so models can nest beans, and other values are converted by Soy.
+ *
+ * @since 5.6.0
+ */
+final class SoyModels {
+
+    private SoyModels() {
+    }
+
+    /**
+     * @param model The model of a view
+     * @return The template parameters, each converted when the template first reads it
+     */
+    @NonNull
+    static Map<String, SoyValueProvider> data(@Nullable Object model) {
+        if (model != null && !(model instanceof Map)) {
+            IntrospectedSoyRecord record = IntrospectedSoyRecord.of(model);
+            if (record != null) {
+                return record.lazyFields();
+            }
+        }
+        Map<String, Object> properties = ViewUtils.modelOf(model);
+        Map<String, SoyValueProvider> data = new HashMap<>(Math.max(4, properties.size() * 4 / 3 + 1));
+        properties.forEach((name, value) -> data.put(name, new LazyValueProvider(() -> value)));
+        return data;
+    }
+
+    /**
+     * @param value A value of the model
+     * @return The value as Soy reads it
+     */
+    @NonNull
+    static SoyValueProvider provider(@Nullable Object value) {
+        if (value == null || value instanceof SoyValueProvider || value instanceof CharSequence
+            || value instanceof Number || value instanceof Boolean || value instanceof Future) {
+            return SoyValueConverter.INSTANCE.convert(value);
+        }
+        if (value instanceof List<?> list) {
+            return SoyValueConverter.INSTANCE.convert(Lists.transform(list, SoyModels::provider));
+        }
+        if (value instanceof Map<?, ?> map) {
+            return SoyValueConverter.INSTANCE.convert(Maps.transformValues(map, SoyModels::provider));
+        }
+        if (!(value instanceof Collection) && !(value instanceof Enum)) {
+            IntrospectedSoyRecord record = IntrospectedSoyRecord.of(value);
+            if (record != null) {
+                return record;
+            }
+        }
+        return SoyValueConverter.INSTANCE.convert(value);
+    }
+
+    /**
+     * Reads and converts a value the first time Soy asks for it. A value which isn't available yet, like a future,
+     * still makes Soy detach until it is.
+     */
+    static final class LazyValueProvider implements SoyValueProvider {
+        private Supplier<?> supplier;
+        private SoyValueProvider delegate;
+
+        LazyValueProvider(Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        private SoyValueProvider delegate() {
+            if (delegate == null) {
+                delegate = provider(supplier.get());
+                supplier = null;
+            }
+            return delegate;
+        }
+
+        @Override
+        public SoyValue resolve() {
+            return delegate().resolve();
+        }
+
+        @Override
+        public RenderResult status() {
+            return delegate().status();
+        }
+
+        @Override
+        public RenderResult renderAndResolve(LoggingAdvisingAppendable appendable, boolean isLast) throws IOException {
+            return delegate().renderAndResolve(appendable, isLast);
+        }
+    }
+}
@@ -19,7 +19,6 @@ import com.google.template.soy.SoyFileSet;
 import com.google.template.soy.data.SoyTemplate;
 import com.google.template.soy.data.SoyValueProvider;
 import com.google.template.soy.error.SoyCompilationException;
-import com.google.template.soy.jbcsrc.api.RenderResult;
 import com.google.template.soy.jbcsrc.api.SoySauce;
 import com.google.template.soy.shared.SoyCssRenamingMap;
 import com.google.template.soy.shared.SoyIdRenamingMap;
@@ -27,23 +26,26 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.io.Writable;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.http.HttpRequest;
-import io.micronaut.views.ViewUtils;
+import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.views.ViewsConfiguration;
 import io.micronaut.views.ViewsRenderer;
 import io.micronaut.views.csp.CspConfiguration;
 import io.micronaut.views.csp.CspFilter;
 import io.micronaut.views.exceptions.ViewRenderingException;
+import io.micronaut.views.streaming.StreamingConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Inject;
+import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 
 
 /**
@@ -67,47 +69,102 @@ public class SoySauceViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>
     protected final SoyNamingMapProvider namingMapProvider;
     protected final SoySauce soySauce;
     private final boolean injectNonce;
+    private final int softLimit;
+    private final CompletableFuture<SoySauce> compilation;
+    private final SoyCssRenamingMap cssRenamingMap;
+    private final SoyIdRenamingMap idRenamingMap;
 
     /**
      * @param viewsConfiguration Views configuration properties.
      * @param cspConfiguration Content-Security-Policy configuration.
      * @param namingMapProvider Soy naming map provider
      * @param soyConfiguration   Soy configuration properties.
+     * @deprecated Use {@link #SoySauceViewsRenderer(ViewsConfiguration, CspConfiguration, SoyNamingMapProvider, SoyViewsRendererConfigurationProperties, StreamingConfiguration, ExecutorService)} instead.
      */
-    @Inject
+    @Deprecated(forRemoval = true, since = "5.6.0")
     public SoySauceViewsRenderer(ViewsConfiguration viewsConfiguration,
                                  @Nullable CspConfiguration cspConfiguration,
                                  @Nullable SoyNamingMapProvider namingMapProvider,
                                  SoyViewsRendererConfigurationProperties soyConfiguration) {
+        this(viewsConfiguration, cspConfiguration, namingMapProvider, soyConfiguration, null, null);
+    }
+
+    /**
+     * @param viewsConfiguration Views configuration properties.
+     * @param cspConfiguration Content-Security-Policy configuration.
+     * @param namingMapProvider Soy naming map provider
+     * @param soyConfiguration   Soy configuration properties.
+     * @param streamingConfiguration Streaming configuration. When streaming is enabled, Soy pauses after each chunk
+     *                               of the flush threshold until it is sent.
+     * @param compileExecutor The executor templates are compiled on in the background, if enabled. Without one, they
+     *                        are compiled while the renderer is created.
+     * @since 5.6.0
+     */
+    @Inject
+    public SoySauceViewsRenderer(ViewsConfiguration viewsConfiguration,
+                                 @Nullable CspConfiguration cspConfiguration,
+                                 @Nullable SoyNamingMapProvider namingMapProvider,
+                                 SoyViewsRendererConfigurationProperties soyConfiguration,
+                                 @Nullable StreamingConfiguration streamingConfiguration,
+                                 @Nullable @Named(TaskExecutors.BLOCKING) ExecutorService compileExecutor) {
+        this.softLimit = streamingConfiguration != null && streamingConfiguration.isEnabled()
+            ? streamingConfiguration.getFlushThreshold()
+            : Integer.MAX_VALUE;
         this.viewsConfiguration = viewsConfiguration;
         this.soyMicronautConfiguration = soyConfiguration;
         this.namingMapProvider = namingMapProvider;
+        this.cssRenamingMap = namingMapProvider != null ? namingMapProvider.cssRenamingMap() : null;
+        this.idRenamingMap = namingMapProvider != null ? namingMapProvider.idRenamingMap() : null;
         this.injectNonce = cspConfiguration != null && cspConfiguration.isNonceEnabled();
         final SoySauce precompiled = soyConfiguration.getCompiledTemplates();
         if (precompiled != null) {
             this.soySauce = precompiled;
+            this.compilation = CompletableFuture.completedFuture(precompiled);
+        } else if (soyConfiguration.isCompileInBackground() && compileExecutor != null) {
+            final CompletableFuture<SoySauce> compiled = CompletableFuture.supplyAsync(() -> compile(soyConfiguration), compileExecutor);
+            compiled.whenComplete((templates, e) -> {
+                if (e != null) {
+                    LOG.error("Soy template compilation failed", e);
+                }
+            });
+            this.soySauce = new DeferredSoySauce(compiled);
+            this.compilation = compiled;
         } else {
-            LOG.warn("Compiling Soy templates (this may take a moment)...");
-            SoyFileSet fileSet = soyConfiguration.getFileSet();
-            if (fileSet == null) {
-                throw new IllegalStateException(
-                        "Unable to load Soy templates: no file set, no compiled templates provided.");
-            }
-            try {
-                this.soySauce = fileSet.compileTemplates();
-            } catch (SoyCompilationException se) {
-                throw new ViewRenderingException(
-                    "Soy template compilation failed: " + se.getMessage(), se);
-            }
+            this.soySauce = compile(soyConfiguration);
+            this.compilation = CompletableFuture.completedFuture(soySauce);
         }
     }
 
+    private static SoySauce compile(SoyViewsRendererConfigurationProperties soyConfiguration) {
+        LOG.warn("Compiling Soy templates (this may take a moment)...");
+        SoyFileSet fileSet = soyConfiguration.getFileSet();
+        if (fileSet == null) {
+            throw new IllegalStateException(
+                    "Unable to load Soy templates: no file set, no compiled templates provided.");
+        }
+        try {
+            return fileSet.compileTemplates();
+        } catch (SoyCompilationException se) {
+            throw new ViewRenderingException(
+                "Soy template compilation failed: " + se.getMessage(), se);
+        }
+    }
+
+    /**
+     * @return The templates, completed once they are compiled.
+     */
+    CompletableFuture<SoySauce> compilation() {
+        return compilation;
+    }
+
 
     /**
      * @param viewName view name to be rendered
      * @param data     response body to render it with a view
      * @param request  HTTP request
-     * @return A writable where the view will be written to.
+     * @return A writable where the view will be written to. If the view doesn't fit in one chunk
+     * or waits on async data, a {@link io.micronaut.views.streaming.NonBlockingWritable} which continues rendering as
+     * its chunks are sent and that data arrives.
      */
     @NonNull
     @Override
@@ -117,7 +174,6 @@ public class SoySauceViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>
         ArgumentUtils.requireNonNull("viewName", viewName);
 
         Map<String, Object> ijOverlay = new HashMap<>(1);
-        Map<String, Object> context = ViewUtils.modelOf(data);
         final SoySauce.Renderer renderer = soySauce.newRenderer(new SoyTemplate() {
             @Override
             public String getTemplateName() {
@@ -129,7 +185,7 @@ public class SoySauceViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>
                 return null;
             }
         });
-        renderer.setData(context);
+        renderer.setData(SoyModels.data(data));
         if (injectNonce) {
             Optional<Object> nonceObj = request != null ? request.getAttribute(CspFilter.NONCE_PROPERTY) : Optional.empty();
             if (nonceObj.isPresent()) {
@@ -139,52 +195,28 @@ public class SoySauceViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?>
         }
         renderer.setIj(ijOverlay);
 
-        if (this.soyMicronautConfiguration.isRenamingEnabled() && this.namingMapProvider != null) {
-            SoyCssRenamingMap cssMap = this.namingMapProvider.cssRenamingMap();
-            SoyIdRenamingMap idMap = this.namingMapProvider.idRenamingMap();
-            if (cssMap != null) {
-                renderer.setCssRenamingMap(cssMap);
+        if (this.soyMicronautConfiguration.isRenamingEnabled()) {
+            if (cssRenamingMap != null) {
+                renderer.setCssRenamingMap(cssRenamingMap);
             }
-            if (idMap != null) {
-                renderer.setXidRenamingMap(idMap);
+            if (idRenamingMap != null) {
+                renderer.setXidRenamingMap(idRenamingMap);
             }
         }
 
+        final ChunkedAppendable target = new ChunkedAppendable(softLimit);
+        final SoySauce.WriteContinuation state;
         try {
-            final AppendableToWritable target = new AppendableToWritable();
-            SoySauce.WriteContinuation state;
-
             state = renderer.renderHtml(target);
-
-            while (state.result().type() != RenderResult.Type.DONE) {
-                switch (state.result().type()) {
-                    // If it's done, do nothing.
-                    case DONE: break;
-
-                    // Render engine is signalling that we are waiting on an async task.
-                    case DETACH:
-                        state.result().future().get();
-                        state = state.continueRender();
-                        break;
-
-                    // Output buffer is full.
-                    case LIMITED: break;
-
-                    default: break;
-                }
-            }
-            return target;
-
         } catch (IOException e) {
             throw new ViewRenderingException(
                     "Error rendering Soy Sauce view [" + viewName + "]: " + e.getMessage(), e);
-        } catch (InterruptedException ixe) {
-            throw new ViewRenderingException(
-                    "Interrupted while rendering Soy Sauce view [" + viewName + "]: " + ixe.getMessage(), ixe);
-        } catch (ExecutionException exe) {
-            throw new ViewRenderingException(
-                    "Execution error while rendering Soy Sauce view [" + viewName + "]: " + exe.getMessage(), exe);
         }
+        if (state.result().isDone()) {
+            return target::writeTo;
+        }
+        // The view filled a chunk or waits on async data: continue rendering as chunks are sent and data arrives.
+        return new StreamingSoyWritable(viewName, state, target);
     }
 
     /**
@@ -17,6 +17,7 @@ package io.micronaut.views.soy;
 
 import com.google.template.soy.SoyFileSet;
 import com.google.template.soy.jbcsrc.api.SoySauce;
+import com.google.template.soy.jbcsrc.api.SoySauceBuilder;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.views.ViewsConfiguration;
 import io.micronaut.views.ViewsConfigurationProperties;
@@ -49,8 +50,22 @@ public class SoyViewsRendererConfigurationProperties implements SoyViewsRenderer
     @SuppressWarnings("WeakerAccess")
     public static final boolean DEFAULT_RENAMING = true;
 
+    /**
+     * The default precompiled value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_PRECOMPILED = false;
+
+    /**
+     * The default compile in background value.
+     */
+    @SuppressWarnings("WeakerAccess")
+    public static final boolean DEFAULT_COMPILE_IN_BACKGROUND = false;
+
     private boolean enabled = DEFAULT_ENABLED;
     private boolean renaming = DEFAULT_RENAMING;
+    private boolean precompiled = DEFAULT_PRECOMPILED;
+    private boolean compileInBackground = DEFAULT_COMPILE_IN_BACKGROUND;
     private final SoyFileSetProvider fileSetProvider;
 
     /**
@@ -107,11 +122,66 @@ public class SoyViewsRendererConfigurationProperties implements SoyViewsRenderer
     }
 
     /**
-     * @return Return a set of pre-compiled Soy templates, if supported
+     * Whether the templates were compiled to Java bytecode at build time, with {@code SoyToJbcSrcCompiler}, and are on
+     * the classpath. Default value ({@value #DEFAULT_PRECOMPILED}).
+     *
+     * @return True if the templates are loaded from the classpath instead of compiled from the file set
+     * @since 5.6.0
+     */
+    public boolean isPrecompiled() {
+        return precompiled;
+    }
+
+    /**
+     * Whether the templates were compiled to Java bytecode at build time, with {@code SoyToJbcSrcCompiler}, and are on
+     * the classpath. Default value ({@value #DEFAULT_PRECOMPILED}).
+     *
+     * @param precompiled True if the templates are loaded from the classpath instead of compiled from the file set
+     * @since 5.6.0
+     */
+    public void setPrecompiled(boolean precompiled) {
+        this.precompiled = precompiled;
+    }
+
+    /**
+     * Whether templates compiled from the file set at startup are compiled on the blocking executor, rather than while
+     * the renderer is created. Until then, Soy views aren't found and rendering one fails with
+     * {@code 503 Service Unavailable}. Default value
+     * ({@value #DEFAULT_COMPILE_IN_BACKGROUND}).
+     *
+     * @return True if templates are compiled in the background
+     * @since 5.6.0
+     */
+    public boolean isCompileInBackground() {
+        return compileInBackground;
+    }
+
+    /**
+     * Whether templates compiled from the file set at startup are compiled on the blocking executor, rather than while
+     * the renderer is created. Until then, Soy views aren't found and rendering one fails with
+     * {@code 503 Service Unavailable}. Default value
+     * ({@value #DEFAULT_COMPILE_IN_BACKGROUND}).
+     *
+     * @param compileInBackground True if templates are compiled in the background
+     * @since 5.6.0
+     */
+    public void setCompileInBackground(boolean compileInBackground) {
+        this.compileInBackground = compileInBackground;
+    }
+
+    /**
+     * @return Return a set of pre-compiled Soy templates, if supported. Unless the {@link SoyFileSetProvider} supplies
+     * them, these are the templates on the classpath when {@link #isPrecompiled()} is set.
      */
     @Nullable @Override
     public SoySauce getCompiledTemplates() {
-        return fileSetProvider.provideCompiledTemplates();
+        SoySauce compiled = fileSetProvider.provideCompiledTemplates();
+        if (compiled == null && precompiled) {
+            compiled = new SoySauceBuilder()
+                .withClassLoader(fileSetProvider.getClass().getClassLoader())
+                .build();
+        }
+        return compiled;
     }
 
 }
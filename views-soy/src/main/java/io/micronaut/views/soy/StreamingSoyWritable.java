@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017-2024 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.views.soy;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.template.soy.jbcsrc.api.RenderResult;
+import com.google.template.soy.jbcsrc.api.SoySauce;
+import io.micronaut.core.annotation.NonNull;
+import io.micronaut.core.annotation.Nullable;
+import io.micronaut.views.exceptions.ViewRenderingException;
+import io.micronaut.views.streaming.NonBlockingWritable;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A Soy view which paused, either because a chunk is ready to be sent or because it waits on async data. When
+ * streamed, each chunk is emitted once requested and rendering continues only after that, on the executor it is
+ * streamed with or else on the thread which requests the chunk or completes the async data it waits on.
+ *
+ * @since 5.6.0
+ */
+final class StreamingSoyWritable implements NonBlockingWritable {
+    private final String viewName;
+    private final ChunkedAppendable target;
+    private SoySauce.WriteContinuation state;
+
+    /**
+     * @param viewName view name being rendered
+     * @param state    render state to continue from
+     * @param target   where the view is rendered to
+     */
+    StreamingSoyWritable(String viewName, SoySauce.WriteContinuation state, ChunkedAppendable target) {
+        this.viewName = viewName;
+        this.state = state;
+        this.target = target;
+    }
+
+    @Override
+    public void writeTo(Writer out) throws IOException {
+        // Only reached when the caller writes the view in full, which has to wait for async data.
+        try {
+            while (true) {
+                target.writeTo(out);
+                RenderResult result = state.result();
+                if (result.isDone()) {
+                    return;
+                }
+                if (result.type() == RenderResult.Type.DETACH) {
+                    try {
+                        result.future().get();
+                    } catch (ExecutionException | CancellationException e) {
+                        // Rethrown by Soy when it reads the value.
+                    }
+                }
+                state = state.continueRender();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ViewRenderingException("Interrupted while rendering Soy Sauce view [" + viewName + "]: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            throw renderingException(e);
+        }
+    }
+
+    @Override
+    @NonNull
+    public Publisher<byte[]> stream(@NonNull Charset charset) {
+        return chunks(charset, null);
+    }
+
+    @Override
+    @NonNull
+    public Publisher<byte[]> stream(@NonNull Charset charset, @NonNull Executor executor) {
+        return chunks(charset, executor);
+    }
+
+    private Publisher<byte[]> chunks(Charset charset, @Nullable Executor executor) {
+        return Flux.create(sink -> {
+            Pump pump = new Pump(sink, charset, executor);
+            sink.onRequest(n -> pump.resume());
+        });
+    }
+
+    private ViewRenderingException renderingException(Exception e) {
+        if (e instanceof ViewRenderingException viewRenderingException) {
+            return viewRenderingException;
+        }
+        return new ViewRenderingException("Error rendering Soy Sauce view [" + viewName + "]: " + e.getMessage(), e);
+    }
+
+    private static void whenDone(Future<?> future, Runnable callback) {
+        if (future instanceof ListenableFuture<?> listenableFuture) {
+            listenableFuture.addListener(callback, MoreExecutors.directExecutor());
+        } else if (future instanceof CompletionStage<?> completionStage) {
+            completionStage.whenComplete((result, error) -> callback.run());
+        } else {
+            // A plain future can only be waited on, which mustn't happen on the subscribing thread.
+            Schedulers.boundedElastic().schedule(() -> {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException | CancellationException e) {
+                    // Rethrown by Soy when it reads the value.
+                }
+                callback.run();
+            });
+        }
+    }
+
+    /**
+     * Emits chunks while there is demand. Only one thread drains at a time: one which finds another draining leaves
+     * it to go round again.
+     */
+    private final class Pump {
+        private final FluxSink<byte[]> sink;
+        private final Charset charset;
+        private final @Nullable Executor executor;
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean waiting;
+        private boolean done;
+
+        Pump(FluxSink<byte[]> sink, Charset charset, @Nullable Executor executor) {
+            this.sink = sink;
+            this.charset = charset;
+            this.executor = executor;
+        }
+
+        /**
+         * Drains on the executor, if any, rather than on the thread which requested more or completed the data.
+         */
+        void resume() {
+            if (executor == null) {
+                drain();
+            } else {
+                executor.execute(this::drain);
+            }
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!done && !waiting && !sink.isCancelled() && sink.requestedFromDownstream() > 0) {
+                    try {
+                        step();
+                    } catch (IOException | RuntimeException e) {
+                        done = true;
+                        sink.error(renderingException(e));
+                    }
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void step() throws IOException {
+            if (!target.isEmpty()) {
+                sink.next(target.take(charset));
+                return;
+            }
+            RenderResult result = state.result();
+            if (result.isDone()) {
+                done = true;
+                sink.complete();
+            } else if (result.type() == RenderResult.Type.DETACH && !result.future().isDone()) {
+                waiting = true;
+                whenDone(result.future(), () -> {
+                    waiting = false;
+                    resume();
+                });
+            } else {
+                state = state.continueRender();
+            }
+        }
+    }
+}
@@ -27,6 +27,10 @@ class ExampleSoyFileSetProvider implements SoyFileSetProvider {
         return SoyFileSet.builder()
             .add(new File(
                 ExampleSoyFileSetProvider.class.getClassLoader().getResource(viewsConfiguration.getFolder() + "/home.soy").getFile()))
+            .add(new File(
+                ExampleSoyFileSetProvider.class.getClassLoader().getResource(viewsConfiguration.getFolder() + "/list.soy").getFile()))
+            .add(new File(
+                ExampleSoyFileSetProvider.class.getClassLoader().getResource(viewsConfiguration.getFolder() + "/records.soy").getFile()))
         .build()
     }
 }
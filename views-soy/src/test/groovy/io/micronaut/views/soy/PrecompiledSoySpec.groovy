@@ -0,0 +1,48 @@
+package io.micronaut.views.soy
+
+import com.google.template.soy.SoyFileSet
+import io.micronaut.context.annotation.Property
+import io.micronaut.context.annotation.Requires
+import io.micronaut.core.io.Writable
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import jakarta.inject.Singleton
+import spock.lang.Specification
+
+/**
+ * The templates in src/test/soy are compiled by the compileTestSoy task of the build.
+ */
+@MicronautTest(startApplication = false)
+@Property(name = "spec.name", value = "PrecompiledSoySpec")
+@Property(name = "micronaut.views.soy.precompiled", value = "true")
+class PrecompiledSoySpec extends Specification {
+
+    @Inject
+    SoySauceViewsRenderer<?> viewRenderer
+
+    void "templates compiled at build time are loaded from the classpath"() {
+        expect:
+        viewRenderer.compilation().isDone()
+        viewRenderer.exists("precompiled.greeting")
+        !viewRenderer.exists("sample.tim")
+
+        when:
+        Writable writeable = viewRenderer.render("precompiled.greeting", ["name": "Tim"], null)
+        String result = new StringWriter().with {
+            writeable.writeTo(it)
+            it.toString()
+        }
+
+        then:
+        result.contains("Hello <span>Tim</span>")
+    }
+
+    @Singleton
+    @Requires(property = "spec.name", value = "PrecompiledSoySpec")
+    static class NoFileSetProvider implements SoyFileSetProvider {
+        @Override
+        SoyFileSet provideSoyFileSet() {
+            return null
+        }
+    }
+}
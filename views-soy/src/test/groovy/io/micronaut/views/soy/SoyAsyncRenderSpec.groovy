@@ -0,0 +1,89 @@
+package io.micronaut.views.soy
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.core.io.Writable
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.views.exceptions.ViewRenderingException
+import io.micronaut.views.streaming.NonBlockingWritable
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.stream.Collectors
+
+@MicronautTest(startApplication = false)
+@Property(name = "spec.name", value = "soy")
+class SoyAsyncRenderSpec extends Specification {
+
+    @Inject
+    SoySauceViewsRenderer<?> viewRenderer
+
+    void "views waiting on async data continue rendering when it arrives"() {
+        given:
+        CompletableFuture<String> username = new CompletableFuture<>()
+
+        when:
+        Writable writable = viewRenderer.render("sample.tim", ["username": username], null)
+        CompletableFuture<String> rendered = Flux.from(((NonBlockingWritable) writable).stream(StandardCharsets.UTF_8))
+            .map(chunk -> new String(chunk, StandardCharsets.UTF_8))
+            .collect(Collectors.joining())
+            .toFuture()
+
+        then:
+        writable instanceof NonBlockingWritable
+        !rendered.isDone()
+
+        when:
+        username.complete("Tim")
+
+        then:
+        rendered.get().contains("username: <span>Tim</span>")
+    }
+
+    void "views streamed with an executor continue rendering on it when their data arrives"() {
+        given:
+        CompletableFuture<String> username = new CompletableFuture<>()
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "render-executor"))
+        List<String> threads = new CopyOnWriteArrayList<>()
+
+        when:
+        Writable writable = viewRenderer.render("sample.tim", ["username": username], null)
+        CompletableFuture<String> rendered = Flux.from(((NonBlockingWritable) writable).stream(StandardCharsets.UTF_8, executor))
+            .doOnNext(chunk -> threads.add(Thread.currentThread().name))
+            .map(chunk -> new String(chunk, StandardCharsets.UTF_8))
+            .collect(Collectors.joining())
+            .toFuture()
+        username.complete("Tim")
+
+        then:
+        rendered.get().contains("username: <span>Tim</span>")
+        !threads.isEmpty()
+        threads.every { it == "render-executor" }
+
+        cleanup:
+        executor.shutdown()
+    }
+
+    void "views with data available render at once"() {
+        expect:
+        !(viewRenderer.render("sample.tim", ["username": "Tim"], null) instanceof NonBlockingWritable)
+    }
+
+    void "failed async data fails the view"() {
+        given:
+        CompletableFuture<String> username = new CompletableFuture<>()
+        Writable writable = viewRenderer.render("sample.tim", ["username": username], null)
+
+        when:
+        username.completeExceptionally(new IllegalStateException("unavailable"))
+        writable.writeTo(new StringWriter())
+
+        then:
+        thrown(ViewRenderingException)
+    }
+}
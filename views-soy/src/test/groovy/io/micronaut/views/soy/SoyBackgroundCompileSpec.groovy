@@ -0,0 +1,75 @@
+package io.micronaut.views.soy
+
+import com.google.template.soy.jbcsrc.api.SoySauce
+import io.micronaut.context.annotation.Property
+import io.micronaut.core.io.Writable
+import io.micronaut.health.HealthStatus
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.exceptions.HttpStatusException
+import io.micronaut.management.health.indicator.HealthResult
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import reactor.core.publisher.Mono
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CompletableFuture
+
+@MicronautTest(startApplication = false)
+@Property(name = "spec.name", value = "soy")
+@Property(name = "micronaut.views.soy.compile-in-background", value = "true")
+class SoyBackgroundCompileSpec extends Specification {
+
+    @Inject
+    SoySauceViewsRenderer<?> viewRenderer
+
+    @Inject
+    SoyCompilationHealthIndicator healthIndicator
+
+    void "views are rendered once templates compiled in the background"() {
+        given:
+        new PollingConditions(timeout: 60).eventually {
+            assert viewRenderer.compilation().isDone()
+        }
+
+        when:
+        Writable writeable = viewRenderer.render("sample.tim", ["username": "Tim"], null)
+        String result = new StringWriter().with {
+            writeable.writeTo(it)
+            it.toString()
+        }
+
+        then:
+        viewRenderer.exists("sample.tim")
+        result.contains("username: <span>Tim</span>")
+
+        when:
+        HealthResult health = Mono.from(healthIndicator.getResult()).block()
+
+        then:
+        health.status == HealthStatus.UP
+        health.details == ["compiled": true]
+    }
+
+    void "templates still compiling are unavailable rather than waited for"() {
+        given:
+        def compilation = new CompletableFuture<SoySauce>()
+        def soySauce = new DeferredSoySauce(compilation)
+
+        expect: "looking a view up doesn't fail, so that other engines are still asked for theirs"
+        !soySauce.hasTemplate("sample.tim")
+
+        when:
+        soySauce.renderTemplate("sample.tim")
+
+        then:
+        HttpStatusException e = thrown()
+        e.status == HttpStatus.SERVICE_UNAVAILABLE
+
+        when:
+        compilation.complete(viewRenderer.compilation().join())
+
+        then:
+        soySauce.hasTemplate("sample.tim")
+    }
+}
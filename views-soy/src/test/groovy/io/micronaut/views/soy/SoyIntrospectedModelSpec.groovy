@@ -0,0 +1,73 @@
+package io.micronaut.views.soy
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.core.annotation.Introspected
+import io.micronaut.core.io.Writable
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(startApplication = false)
+@Property(name = "spec.name", value = "soy")
+class SoyIntrospectedModelSpec extends Specification {
+
+    @Inject
+    SoySauceViewsRenderer<?> viewRenderer
+
+    void "nested introspected beans are read as records"() {
+        when:
+        String result = render(new Page(user: new User(name: "Tim", address: new Address(city: "Paris")),
+            friends: [new User(name: "Sam"), new User(name: "Sergio")]))
+
+        then:
+        result.contains("<p>Tim lives in Paris</p>")
+        result.contains("<i>Sam</i><i>Sergio</i>")
+    }
+
+    void "properties the template doesn't read are never read"() {
+        given:
+        Page page = new Page(user: new User(name: "Tim", address: new Address(city: "Paris")))
+
+        when:
+        render(page)
+
+        then:
+        !page.unusedRead
+    }
+
+    void "beans in a map model are read as records"() {
+        expect:
+        render(["user": new User(name: "Tim", address: new Address(city: "Paris"))]).contains("<p>Tim lives in Paris</p>")
+    }
+
+    private String render(Object model) {
+        Writable writable = viewRenderer.render("sample.records.profile", model, null)
+        new StringWriter().with {
+            writable.writeTo(it)
+            it.toString()
+        }
+    }
+
+    @Introspected
+    static class Page {
+        User user
+        List<User> friends
+        boolean unusedRead
+
+        String getUnused() {
+            unusedRead = true
+            "unused"
+        }
+    }
+
+    @Introspected
+    static class User {
+        String name
+        Address address
+    }
+
+    @Introspected
+    static class Address {
+        String city
+    }
+}
@@ -0,0 +1,53 @@
+package io.micronaut.views.soy
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.core.io.Writable
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.views.streaming.NonBlockingWritable
+import jakarta.inject.Inject
+import reactor.core.publisher.Flux
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+
+@MicronautTest(startApplication = false)
+@Property(name = "spec.name", value = "soy")
+@Property(name = "micronaut.views.streaming.enabled", value = "true")
+@Property(name = "micronaut.views.streaming.flush-threshold", value = "64")
+class SoyStreamingRenderSpec extends Specification {
+
+    @Inject
+    SoySauceViewsRenderer<?> viewRenderer
+
+    void "views larger than the flush threshold are streamed in chunks as they are requested"() {
+        given:
+        List<String> items = (1..100).collect { "item " + it }
+
+        when:
+        Writable writable = viewRenderer.render("sample.streaming.list", ["items": items], null)
+        List<byte[]> chunks = Flux.from(((NonBlockingWritable) writable).stream(StandardCharsets.UTF_8))
+            .limitRate(1)
+            .collectList()
+            .block()
+        String streamed = chunks.collect { new String(it, StandardCharsets.UTF_8) }.join()
+
+        then:
+        chunks.size() > 1
+        streamed.contains("<li>item 1</li>")
+        streamed.contains("<li>item 100</li>")
+
+        when:
+        String written = new StringWriter().with {
+            viewRenderer.render("sample.streaming.list", ["items": items], null).writeTo(it)
+            it.toString()
+        }
+
+        then:
+        written == streamed
+    }
+
+    void "views within the flush threshold are rendered at once"() {
+        expect:
+        !(viewRenderer.render("sample.tim", ["username": "Tim"], null) instanceof NonBlockingWritable)
+    }
+}
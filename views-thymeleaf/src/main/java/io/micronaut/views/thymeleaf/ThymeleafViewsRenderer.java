@@ -30,6 +30,7 @@ import io.micronaut.views.ViewsRenderer;
 import io.micronaut.views.exceptions.ViewRenderingException;
 import jakarta.inject.Singleton;
 import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
 import org.thymeleaf.context.ExpressionContext;
 import org.thymeleaf.context.IContext;
 import org.thymeleaf.exceptions.TemplateEngineException;
@@ -134,6 +135,23 @@ public class ThymeleafViewsRenderer<T> implements ViewsRenderer<T, HttpRequest<?
         return resourceLoader.getResourceAsStream(location).isPresent();
     }
 
+    /**
+     * Parses the template into the engine's template cache, if it is cacheable, without processing it.
+     *
+     * @param viewName view name to be rendered
+     * @since 5.6.0
+     */
+    @Override
+    public void prepare(@NonNull String viewName) {
+        var templateAndFragment = resolveTemplate(viewName);
+        try {
+            // the template is parsed and cached when the processor is created, and only processed when it is run
+            engine.processThrottled(templateAndFragment.templateName, templateAndFragment.fragmentSelectors, new Context(Locale.getDefault()));
+        } catch (TemplateEngineException e) {
+            throw new ViewRenderingException("Error preparing Thymeleaf view [" + viewName + "]: " + e.getMessage(), e);
+        }
+    }
+
     private TemplateEngine initializeTemplateEngine() {
         TemplateEngine engine = new TemplateEngine();
         engine.setTemplateResolver(templateResolver);
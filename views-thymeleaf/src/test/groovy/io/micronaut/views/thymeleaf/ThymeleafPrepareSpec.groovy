@@ -0,0 +1,41 @@
+package io.micronaut.views.thymeleaf
+
+import io.micronaut.core.io.Writable
+import io.micronaut.test.extensions.spock.annotation.MicronautTest
+import io.micronaut.views.exceptions.ViewRenderingException
+import jakarta.inject.Inject
+import spock.lang.Specification
+
+@MicronautTest(startApplication = false)
+class ThymeleafPrepareSpec extends Specification {
+
+    @Inject
+    ThymeleafViewsRenderer<?> viewRenderer
+
+    void "a prepared view is parsed into the template cache without being processed"() {
+        when: "the template would fail to process without a model"
+        viewRenderer.prepare("tim")
+
+        then:
+        noExceptionThrown()
+        viewRenderer.engine.configuration.cacheManager.templateCache.keySet().any { it.template == "tim" }
+
+        when:
+        Writable writeable = viewRenderer.render("tim", ["username": "Tim"], null)
+        String result = new StringWriter().with {
+            writeable.writeTo(it)
+            it.toString()
+        }
+
+        then:
+        result.contains("username: <span>Tim</span>")
+    }
+
+    void "preparing a view which doesn't exist fails"() {
+        when:
+        viewRenderer.prepare("missing")
+
+        then:
+        thrown(ViewRenderingException)
+    }
+}
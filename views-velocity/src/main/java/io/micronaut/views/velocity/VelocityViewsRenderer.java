@@ -99,7 +99,9 @@ public class VelocityViewsRenderer<T, R> implements ViewsRenderer<T, R> {
     public boolean exists(@NonNull String viewName) {
         try {
             velocityEngine.getTemplate(viewName(viewName));
-        } catch (ResourceNotFoundException | ParseErrorException e) {
+        } catch (ResourceNotFoundException e) {
+            return false;
+        } catch (ParseErrorException e) {
             throw new ViewRenderingException("Error rendering Velocity view [" + viewName + "]: " + e.getMessage(), e);
         }
         return true;